@@ -0,0 +1,117 @@
+package com.dashboard.api.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Gradient based concurrency limit. A long-term latency average is compared against each new
+// sample: while requests are as fast as usual the limit grows, and when latency rises (for example
+// because Postgres slowed down and work queues for connections) the limit shrinks proportionally.
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejections;
+
+    private volatile double estimatedLimit;
+    private volatile int limit;
+    private double longRttNanos = 0;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${app.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${app.concurrency.min-limit:4}") int minLimit,
+            @Value("${app.concurrency.max-limit:200}") int maxLimit,
+            @Value("${app.concurrency.rtt-tolerance:1.5}") double tolerance,
+            @Value("${app.concurrency.smoothing:0.2}") double smoothing,
+            MeterRegistry meterRegistry
+    ) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+
+        Gauge.builder("http.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.in_flight", inFlight, AtomicInteger::get)
+                .description("Requests currently admitted by the concurrency limiter")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("http.concurrency.rejections")
+                .description("Requests shed because the concurrency limit was reached")
+                .register(meterRegistry);
+    }
+
+    // Returns false when the request must be shed
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejections.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtCompletion);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            return;
+        }
+
+        // Slow moving baseline; drift back quickly once latency recovers
+        longRttNanos = longRttNanos * 0.95 + rttNanos * 0.05;
+        if (longRttNanos > rttNanos * 2) {
+            longRttNanos = rttNanos * 2;
+        }
+
+        // Do not grow the limit while the application is not actually using it
+        if (inFlightAtCompletion < estimatedLimit / 2 && rttNanos <= longRttNanos) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+
+        if ((int) newLimit != limit) {
+            log.debug("Concurrency limit changed from {} to {} (rtt: {}ms, baseline: {}ms)",
+                    limit, (int) newLimit, rttNanos / 1_000_000, (long) longRttNanos / 1_000_000);
+        }
+        estimatedLimit = newLimit;
+        limit = (int) newLimit;
+    }
+}
@@ -0,0 +1,72 @@
+package com.dashboard.api.concurrency;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Wraps the pooled DataSource so every borrowed connection first passes the admission limiter.
+// The permit is handed back when the connection is returned to the pool.
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final DbAdmissionLimiter limiter;
+
+    public AdmissionControlledDataSource(DataSource targetDataSource, DbAdmissionLimiter limiter) {
+        super(targetDataSource);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DbAdmissionLimiter.Admission admission = limiter.acquire();
+        try {
+            return withReleaseOnClose(super.getConnection(), admission);
+        } catch (SQLException | RuntimeException e) {
+            limiter.release(admission);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DbAdmissionLimiter.Admission admission = limiter.acquire();
+        try {
+            return withReleaseOnClose(super.getConnection(username, password), admission);
+        } catch (SQLException | RuntimeException e) {
+            limiter.release(admission);
+            throw e;
+        }
+    }
+
+    private Connection withReleaseOnClose(Connection target, DbAdmissionLimiter.Admission admission) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                limiter.release(admission);
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> {
+                        try {
+                            yield method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+}
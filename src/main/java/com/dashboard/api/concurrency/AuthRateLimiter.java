@@ -0,0 +1,113 @@
+// src/main/java/com/dashboard/api/concurrency/AuthRateLimiter.java
+package com.dashboard.api.concurrency;
+
+import com.dashboard.api.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Throttles the expensive unauthenticated endpoints: login and register cost a bcrypt hash, the
+// password-reset flow sends mail and can be used to guess OTPs. Requests are limited per client
+// IP (RateLimitFilter) and per target email (the services), each with its own policy.
+@Component
+@Slf4j
+public class AuthRateLimiter {
+
+    private final RateLimitStore store;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    private final RateLimitPolicy loginPerIp;
+    private final RateLimitPolicy registerPerIp;
+    private final RateLimitPolicy passwordResetPerIp;
+    private final RateLimitPolicy loginPerEmail;
+    private final RateLimitPolicy otpSendPerEmail;
+    private final RateLimitPolicy otpVerifyPerEmail;
+
+    public AuthRateLimiter(
+            RateLimitStore store,
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.rate-limit.login-ip.capacity:20}") int loginIpCapacity,
+            @Value("${app.rate-limit.login-ip.refill-per-minute:10}") double loginIpRefill,
+            @Value("${app.rate-limit.register-ip.capacity:5}") int registerIpCapacity,
+            @Value("${app.rate-limit.register-ip.refill-per-minute:1}") double registerIpRefill,
+            @Value("${app.rate-limit.password-reset-ip.capacity:10}") int resetIpCapacity,
+            @Value("${app.rate-limit.password-reset-ip.refill-per-minute:5}") double resetIpRefill,
+            @Value("${app.rate-limit.login-email.capacity:10}") int loginEmailCapacity,
+            @Value("${app.rate-limit.login-email.refill-per-minute:5}") double loginEmailRefill,
+            @Value("${app.rate-limit.otp-send-email.capacity:3}") int otpSendCapacity,
+            @Value("${app.rate-limit.otp-send-email.refill-per-minute:0.2}") double otpSendRefill,
+            @Value("${app.rate-limit.otp-verify-email.capacity:10}") int otpVerifyCapacity,
+            @Value("${app.rate-limit.otp-verify-email.refill-per-minute:2}") double otpVerifyRefill
+    ) {
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.loginPerIp = new RateLimitPolicy("login-ip", loginIpCapacity, loginIpRefill);
+        this.registerPerIp = new RateLimitPolicy("register-ip", registerIpCapacity, registerIpRefill);
+        this.passwordResetPerIp = new RateLimitPolicy("password-reset-ip", resetIpCapacity, resetIpRefill);
+        this.loginPerEmail = new RateLimitPolicy("login-email", loginEmailCapacity, loginEmailRefill);
+        this.otpSendPerEmail = new RateLimitPolicy("otp-send-email", otpSendCapacity, otpSendRefill);
+        this.otpVerifyPerEmail = new RateLimitPolicy("otp-verify-email", otpVerifyCapacity, otpVerifyRefill);
+    }
+
+    // Returns 0 when allowed, otherwise milliseconds to wait; paths without a policy are not limited
+    public long tryAcquireForIp(String path, String clientIp) {
+        RateLimitPolicy policy = switch (path) {
+            case "/api/auth/login" -> loginPerIp;
+            case "/api/auth/register" -> registerPerIp;
+            case "/api/auth/forgot-password", "/api/auth/verify-otp", "/api/auth/reset-password" -> passwordResetPerIp;
+            default -> null;
+        };
+        return policy == null ? 0 : tryAcquire(policy, clientIp);
+    }
+
+    public void checkLogin(String email) {
+        check(loginPerEmail, email);
+    }
+
+    public void checkOtpSend(String email) {
+        check(otpSendPerEmail, email);
+    }
+
+    public void checkOtpVerify(String email) {
+        check(otpVerifyPerEmail, email);
+    }
+
+    private void check(RateLimitPolicy policy, String email) {
+        if (email == null) {
+            return;
+        }
+        long waitMs = tryAcquire(policy, email.trim().toLowerCase(Locale.ROOT));
+        if (waitMs > 0) {
+            throw new RateLimitExceededException("Too many attempts for this account, please try again later",
+                    retryAfterSeconds(waitMs));
+        }
+    }
+
+    private long tryAcquire(RateLimitPolicy policy, String key) {
+        if (!enabled) {
+            return 0;
+        }
+        long waitMs = store.tryConsume(key, policy);
+        if (waitMs > 0) {
+            log.warn("Rate limit {} exceeded for {}", policy.name(), key);
+            Counter.builder("rate_limit.rejections")
+                    .tag("policy", policy.name())
+                    .description("Requests rejected by a rate limit policy")
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return waitMs;
+    }
+
+    public static long retryAfterSeconds(long waitMs) {
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(Math.min(waitMs, TimeUnit.HOURS.toMillis(1)) + 999));
+    }
+}
@@ -0,0 +1,282 @@
+package com.dashboard.api.concurrency;
+
+import com.dashboard.api.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+// Caps the number of threads that may hold a database connection at the same time.
+// Callers beyond the cap park here instead of spinning inside the Hikari pool. They wait at most
+// Hikari's connection-timeout, so a request fails no later than it would without the limiter.
+//
+// Waiting work is grouped into one flow per authenticated user and served round-robin
+// (weighted), and each user may hold only a few connections at once. A user with a huge data
+// set therefore queues behind their own quota while other users keep getting connections.
+@Component
+@ConditionalOnProperty(name = "app.db.admission.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class DbAdmissionLimiter {
+
+    // Work without an authenticated user, e.g. the user lookup inside JwtAuthenticationFilter
+    private static final String ANONYMOUS_FLOW = "anonymous";
+
+    private final int maxConcurrent;
+    private final int perUserLimit;
+    private final int anonymousWeight;
+    private final long acquireTimeoutNanos;
+    private final Counter timeouts;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Flow> flows = new HashMap<>();
+    private final ArrayDeque<Flow> waitingFlows = new ArrayDeque<>();
+    private int available;
+    private int waiting;
+
+    // Nested connection requests on a thread that already holds one must not wait on themselves,
+    // so they skip admission entirely: a thread opening a second connection (REQUIRES_NEW, a
+    // separate DataSource) is not counted and may exceed the per-user and total caps. Only Hikari's
+    // own pool size bounds those.
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    public DbAdmissionLimiter(
+            @Value("${app.db.admission.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${app.db.admission.per-user-limit:2}") int perUserLimit,
+            @Value("${app.db.admission.anonymous-weight:4}") int anonymousWeight,
+            @Value("${app.db.admission.acquire-timeout-ms:${spring.datasource.hikari.connection-timeout:30000}}") long acquireTimeoutMs,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeoutMs,
+            MeterRegistry meterRegistry
+    ) {
+        if (acquireTimeoutMs > connectionTimeoutMs) {
+            log.warn("app.db.admission.acquire-timeout-ms ({}) exceeds Hikari's connection-timeout ({}), using the latter",
+                    acquireTimeoutMs, connectionTimeoutMs);
+            acquireTimeoutMs = connectionTimeoutMs;
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.perUserLimit = Math.max(1, Math.min(perUserLimit, maxConcurrent));
+        this.anonymousWeight = Math.max(1, anonymousWeight);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+        this.available = maxConcurrent;
+
+        Gauge.builder("db.admission.available", this, limiter -> limiter.snapshot(() -> limiter.available))
+                .description("Free database admission permits")
+                .register(meterRegistry);
+        Gauge.builder("db.admission.waiting", this, limiter -> limiter.snapshot(() -> limiter.waiting))
+                .description("Threads waiting for a database admission permit")
+                .register(meterRegistry);
+        Gauge.builder("db.admission.flows", this, limiter -> limiter.snapshot(limiter.flows::size))
+                .description("Users currently holding or waiting for database admission")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("db.admission.timeouts")
+                .description("Database admission requests that timed out")
+                .register(meterRegistry);
+
+        log.info("Database admission limiter enabled with {} permits, {} per user", maxConcurrent, this.perUserLimit);
+    }
+
+    // Returns the admission to hand back through release(), or null for a nested borrow
+    public Admission acquire() throws SQLTransientConnectionException {
+        int[] held = depth.get();
+        if (held[0] > 0) {
+            held[0]++;
+            return null;
+        }
+
+        Flow flow;
+        lock.lock();
+        try {
+            flow = flows.computeIfAbsent(currentFlowKey(), this::newFlow);
+
+            // dispatch() runs on every release, so free permits mean nobody eligible is waiting
+            if (available > 0 && flow.inFlight < flow.cap) {
+                grant(flow);
+            } else {
+                awaitTurn(flow);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        held[0] = 1;
+        return new Admission(flow);
+    }
+
+    public void release(Admission admission) {
+        int[] held = depth.get();
+        if (held[0] > 0) {
+            held[0]--;
+        }
+        if (admission == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            available++;
+            admission.flow.inFlight--;
+            removeIfIdle(admission.flow);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitTurn(Flow flow) throws SQLTransientConnectionException {
+        Waiter waiter = new Waiter(lock.newCondition());
+        flow.waiters.addLast(waiter);
+        waiting++;
+        if (!flow.queued) {
+            flow.queued = true;
+            waitingFlows.addLast(flow);
+        }
+
+        long remaining = acquireTimeoutNanos;
+        try {
+            while (!waiter.granted) {
+                if (remaining <= 0) {
+                    abandon(flow, waiter);
+                    timeouts.increment();
+                    throw new SQLTransientConnectionException("Database admission timed out after "
+                            + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + "ms (" + maxConcurrent + " permits in use)");
+                }
+                remaining = waiter.condition.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            if (waiter.granted) {
+                // Lost the race with dispatch(); give the permit straight back
+                flow.inFlight--;
+                available++;
+                removeIfIdle(flow);
+                dispatch();
+            } else {
+                abandon(flow, waiter);
+            }
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for database admission", e);
+        }
+    }
+
+    // Hands free permits to waiting flows in weighted round-robin order. Must hold the lock.
+    private void dispatch() {
+        int blocked = 0;
+        while (available > 0 && !waitingFlows.isEmpty() && blocked < waitingFlows.size()) {
+            Flow flow = waitingFlows.pollFirst();
+            if (flow.waiters.isEmpty()) {
+                flow.queued = false;
+                flow.credits = 0;
+                continue;
+            }
+            if (flow.inFlight >= flow.cap) {
+                // This user is at their quota; let the next flow go first
+                waitingFlows.addLast(flow);
+                blocked++;
+                continue;
+            }
+
+            Waiter waiter = flow.waiters.pollFirst();
+            waiting--;
+            grant(flow);
+            waiter.granted = true;
+            waiter.condition.signal();
+            blocked = 0;
+
+            if (flow.waiters.isEmpty()) {
+                flow.queued = false;
+                flow.credits = 0;
+            } else if (++flow.credits >= flow.weight) {
+                flow.credits = 0;
+                waitingFlows.addLast(flow);
+            } else {
+                waitingFlows.addFirst(flow);
+            }
+        }
+    }
+
+    private void grant(Flow flow) {
+        available--;
+        flow.inFlight++;
+    }
+
+    private void abandon(Flow flow, Waiter waiter) {
+        if (flow.waiters.remove(waiter)) {
+            waiting--;
+        }
+        removeIfIdle(flow);
+    }
+
+    private void removeIfIdle(Flow flow) {
+        if (flow.inFlight <= 0 && flow.waiters.isEmpty()) {
+            flows.remove(flow.key, flow);
+        }
+    }
+
+    private Flow newFlow(String key) {
+        return ANONYMOUS_FLOW.equals(key)
+                ? new Flow(key, maxConcurrent, anonymousWeight)
+                : new Flow(key, perUserLimit, 1);
+    }
+
+    private String currentFlowKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user && user.getId() != null) {
+            return user.getId();
+        }
+        return ANONYMOUS_FLOW;
+    }
+
+    private double snapshot(IntSupplier supplier) {
+        lock.lock();
+        try {
+            return supplier.getAsInt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static final class Admission {
+        private final Flow flow;
+
+        private Admission(Flow flow) {
+            this.flow = flow;
+        }
+    }
+
+    private static final class Flow {
+        private final String key;
+        private final int cap;
+        private final int weight;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private int inFlight;
+        private int credits;
+        private boolean queued;
+
+        private Flow(String key, int cap, int weight) {
+            this.key = key;
+            this.cap = cap;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Waiter {
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
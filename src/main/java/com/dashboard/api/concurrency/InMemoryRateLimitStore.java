@@ -0,0 +1,167 @@
+// src/main/java/com/dashboard/api/concurrency/InMemoryRateLimitStore.java
+package com.dashboard.api.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lock-free token buckets. Each bucket is a single AtomicLong packing the token count (in
+// thousandths, low 24 bits) and the time of the last refill (ms since startup, high 40 bits),
+// so taking a token is one compare-and-set.
+//
+// Keys are spread over independent stripes. Buckets that have been idle long enough to be full
+// again carry no information and are swept out. A stripe that reaches its share of max-keys drops
+// its least recently used tenth before taking a new key, so a scan over random emails or IPs
+// cannot grow memory without bound, and every new key still gets a budget of its own.
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final int STRIPES = 16;
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long ONE_TOKEN = 1000;
+
+    private final ConcurrentHashMap<String, Bucket>[] stripes;
+    private final int maxKeysPerStripe;
+    private final long startedAt = System.currentTimeMillis();
+
+    @SuppressWarnings("unchecked")
+    public InMemoryRateLimitStore(
+            @Value("${app.rate-limit.max-keys:100000}") int maxKeys,
+            MeterRegistry meterRegistry
+    ) {
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.stripes = new ConcurrentHashMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+
+        Gauge.builder("rate_limit.keys", this, InMemoryRateLimitStore::size)
+                .description("Rate limit buckets currently held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long tryConsume(String key, RateLimitPolicy policy) {
+        long now = System.currentTimeMillis() - startedAt;
+        return bucketFor(policy.name() + ":" + key, policy, now).tryConsume(now);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:30000}")
+    public void evictIdleBuckets() {
+        long now = System.currentTimeMillis() - startedAt;
+        int evicted = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            for (var entry : stripe.entrySet()) {
+                if (entry.getValue().isFull(now) && stripe.remove(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                }
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit buckets", evicted);
+        }
+    }
+
+    private Bucket bucketFor(String key, RateLimitPolicy policy, long now) {
+        ConcurrentHashMap<String, Bucket> stripe = stripe(key);
+        Bucket bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.size() >= maxKeysPerStripe) {
+            evictLeastRecentlyUsed(stripe);
+        }
+        return stripe.computeIfAbsent(key, k -> new Bucket(policy, now));
+    }
+
+    // Drops the least recently used tenth of a full stripe in one pass, so the sort is paid once
+    // per many inserts. Sorts a snapshot of the use times, since buckets keep being used meanwhile.
+    private void evictLeastRecentlyUsed(ConcurrentHashMap<String, Bucket> stripe) {
+        synchronized (stripe) {
+            if (stripe.size() < maxKeysPerStripe) {
+                return;
+            }
+            long[] usedAt = stripe.values().stream().mapToLong(bucket -> bucket.usedAt).sorted().toArray();
+            int excess = usedAt.length - maxKeysPerStripe * 9 / 10;
+            if (excess <= 0) {
+                return;
+            }
+            long cutoff = usedAt[excess - 1];
+            stripe.entrySet().removeIf(entry -> entry.getValue().usedAt <= cutoff);
+        }
+    }
+
+    private ConcurrentHashMap<String, Bucket> stripe(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private static final class Bucket {
+        private final AtomicLong state;
+        private final long capacity;
+        // Thousandths of a token added per millisecond
+        private final double refillRate;
+        // System.nanoTime() of the last tryConsume, for eviction order
+        private volatile long usedAt = System.nanoTime();
+
+        private Bucket(RateLimitPolicy policy, long now) {
+            this.capacity = Math.min(TOKEN_MASK, policy.capacity() * ONE_TOKEN);
+            this.refillRate = policy.refillPerMinute() * ONE_TOKEN / 60_000.0;
+            this.state = new AtomicLong(pack(capacity, now));
+        }
+
+        long tryConsume(long now) {
+            usedAt = System.nanoTime();
+            while (true) {
+                long current = state.get();
+                long tokens = current & TOKEN_MASK;
+                long last = current >>> TOKEN_BITS;
+
+                long added = (long) (Math.max(0, now - last) * refillRate);
+                long available = Math.min(capacity, tokens + added);
+                // Only move the clock forward by the time actually converted into tokens, so
+                // frequent calls do not throw away fractional refills
+                long refilledAt = available == capacity ? now : added == 0 ? last : last + (long) (added / refillRate);
+
+                if (available < ONE_TOKEN) {
+                    if (refillRate <= 0) {
+                        return Long.MAX_VALUE;
+                    }
+                    return Math.max(1, (long) Math.ceil((ONE_TOKEN - available) / refillRate));
+                }
+                if (state.compareAndSet(current, pack(available - ONE_TOKEN, refilledAt))) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            long current = state.get();
+            long tokens = current & TOKEN_MASK;
+            long last = current >>> TOKEN_BITS;
+            return tokens + (long) (Math.max(0, now - last) * refillRate) >= capacity;
+        }
+
+        private static long pack(long tokens, long timestamp) {
+            return (timestamp << TOKEN_BITS) | tokens;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+// src/main/java/com/dashboard/api/concurrency/RateLimitPolicy.java
+package com.dashboard.api.concurrency;
+
+// Token bucket: up to capacity requests in a burst, refilled continuously at refillPerMinute
+public record RateLimitPolicy(String name, int capacity, double refillPerMinute) {
+}
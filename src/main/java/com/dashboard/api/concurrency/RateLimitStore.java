@@ -0,0 +1,11 @@
+// src/main/java/com/dashboard/api/concurrency/RateLimitStore.java
+package com.dashboard.api.concurrency;
+
+// Holds the token buckets. The in-memory store limits per instance; a shared implementation
+// (e.g. Redis) can replace it when the API runs on several nodes.
+public interface RateLimitStore {
+
+    // Takes one token for key under policy. Returns 0 when allowed, otherwise the milliseconds
+    // until the next token becomes available.
+    long tryConsume(String key, RateLimitPolicy policy);
+}
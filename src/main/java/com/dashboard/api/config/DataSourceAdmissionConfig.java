@@ -0,0 +1,30 @@
+package com.dashboard.api.config;
+
+import com.dashboard.api.concurrency.AdmissionControlledDataSource;
+import com.dashboard.api.concurrency.DbAdmissionLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "app.db.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceAdmissionConfig {
+
+    // Static so the post processor does not force early initialization of this configuration
+    @Bean
+    public static BeanPostProcessor admissionControlledDataSourcePostProcessor(ObjectProvider<DbAdmissionLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlledDataSource)) {
+                    return new AdmissionControlledDataSource(dataSource, limiter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -2,10 +2,12 @@
 package com.dashboard.api.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @EnableScheduling
+@EnableAsync
 public class SchedulerConfig {
-    // Enable Spring's scheduled task execution capability
+    // Enable Spring's scheduled and async task execution capability
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+// src/main/java/com/dashboard/api/config/SchemaPatchRunner.java
+package com.dashboard.api.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Applies db/schema-patches.sql once Hibernate has created/updated the tables
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaPatchRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("classpath:db/schema-patches.sql")
+    private Resource schemaPatches;
+
+    @PostConstruct
+    public void applySchemaPatches() throws IOException {
+        // The PostgreSQL driver runs the multi-statement script (including DO blocks) in one call
+        jdbcTemplate.execute(schemaPatches.getContentAsString(StandardCharsets.UTF_8));
+        log.info("Applied database schema patches");
+    }
+}
@@ -1,9 +1,12 @@
 // src/main/java/com/dashboard/api/config/SecurityConfig.java
 package com.dashboard.api.config;
 
+import com.dashboard.api.concurrency.ConcurrencyLimitFilter;
+import com.dashboard.api.concurrency.RateLimitFilter;
 import com.dashboard.api.security.JwtAuthenticationFilter;
 import com.dashboard.api.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,10 +17,10 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 @Configuration
@@ -27,16 +30,30 @@ public class SecurityConfig {
 
     private final CorsConfigurationSource corsConfigurationSource;
 
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
             JwtAuthenticationFilter jwtAuthFilter,
+            ConcurrencyLimitFilter concurrencyLimitFilter,
+            RateLimitFilter rateLimitFilter,
             AuthenticationProvider authenticationProvider
     ) throws Exception {
+        // Only a separate management port is trusted; sharing the API port would publish metrics
+        boolean separateManagementPort = managementPort > 0 && managementPort != serverPort;
+        RequestMatcher managementRequest = request -> separateManagementPort && request.getLocalPort() == managementPort;
+
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // Actuator on the private management port
+                        .requestMatchers(managementRequest).permitAll()
                         // Public endpoints - no authentication required
                         .requestMatchers(
                                 "/api/auth/**",
@@ -45,26 +62,30 @@ public class SecurityConfig {
                                 "/error",
                                 "/actuator/health" // If you add actuator later
                         ).permitAll()
+                        // Metrics and the rest of actuator are not for API users
+                        .requestMatchers("/actuator/**").denyAll()
                         // All other endpoints require authentication
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider)
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                // Shed excess load before any token parsing or user lookup happens
+                .addFilterBefore(concurrencyLimitFilter, JwtAuthenticationFilter.class)
+                // Per-IP throttling of login, register and password reset
+                .addFilterBefore(rateLimitFilter, ConcurrencyLimitFilter.class);
 
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
+    // PasswordEncoder is AdmissionControlledPasswordEncoder (bounded bcrypt pool, calibrated cost)
     @Bean
     public AuthenticationProvider authenticationProvider(UserService userService, PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        // Re-hash passwords stored with an older, cheaper work factor after a successful login
+        authProvider.setUserDetailsPasswordService(userService);
         return authProvider;
     }
 
@@ -0,0 +1,39 @@
+// src/main/java/com/dashboard/api/controller/AgendaController.java
+package com.dashboard.api.controller;
+
+import com.dashboard.api.dto.response.AgendaPageResponse;
+import com.dashboard.api.dto.response.ApiResponse;
+import com.dashboard.api.service.AgendaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/agenda")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {
+        "http://localhost:5173",
+        "http://localhost:3011",
+        "https://dashforge.netlify.app"
+})
+public class AgendaController {
+
+    private final AgendaService agendaService;
+
+    // Todos due and events starting between from and to (both inclusive), in date order
+    @GetMapping
+    public ResponseEntity<ApiResponse<AgendaPageResponse>> getAgenda(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String token) {
+        log.info("GET /api/agenda - from: {}, to: {}, limit: {}, continued: {}", from, to, limit, token != null);
+        AgendaPageResponse page = agendaService.getAgenda(from, to, limit, token);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+}
@@ -13,6 +13,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -64,6 +66,23 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success("Logged out from all devices", null));
     }
 
+    @GetMapping("/sessions")
+    public ResponseEntity<ApiResponse<List<SessionResponse>>> getSessions() {
+        log.info("GET /api/auth/sessions");
+        List<SessionResponse> sessions = authService.getActiveSessions();
+        return ResponseEntity.ok(ApiResponse.success(sessions));
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<ApiResponse<String>> revokeSession(@PathVariable String sessionId) {
+        log.info("DELETE /api/auth/sessions/{}", sessionId);
+        if (authService.revokeSession(sessionId)) {
+            return ResponseEntity.ok(ApiResponse.success("Session revoked", null));
+        }
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("Session not found"));
+    }
+
     @GetMapping("/profile")
     public ResponseEntity<ApiResponse<UserResponse>> getProfile() {
         log.info("GET /api/auth/profile");
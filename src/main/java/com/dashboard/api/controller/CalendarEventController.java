@@ -2,24 +2,43 @@
 package com.dashboard.api.controller;
 
 import com.dashboard.api.dto.EventFiltersDto;
+import com.dashboard.api.dto.request.BatchConflictRequest;
 import com.dashboard.api.dto.request.CreateEventRequest;
+import com.dashboard.api.dto.request.FindSlotsRequest;
 import com.dashboard.api.dto.request.UpdateEventRequest;
 import com.dashboard.api.dto.response.ApiResponse;
+import com.dashboard.api.dto.response.AvailableSlotResponse;
+import com.dashboard.api.dto.response.CalendarViewResponse;
 import com.dashboard.api.dto.response.EventResponse;
 import com.dashboard.api.dto.response.EventStatsResponse;
+import com.dashboard.api.dto.response.FreeBusyResponse;
+import com.dashboard.api.dto.response.IcsImportResponse;
+import com.dashboard.api.dto.response.SlotConflictsResponse;
+import com.dashboard.api.enums.CalendarViewType;
 import com.dashboard.api.enums.EventCategory;
 import com.dashboard.api.enums.EventPriority;
+import com.dashboard.api.service.AvailabilityService;
+import com.dashboard.api.exception.ValidationException;
 import com.dashboard.api.service.CalendarEventService;
+import com.dashboard.api.service.CalendarViewService;
+import com.dashboard.api.service.IcsService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/events")
@@ -33,6 +52,9 @@ import java.util.List;
 public class CalendarEventController {
 
     private final CalendarEventService eventService;
+    private final AvailabilityService availabilityService;
+    private final CalendarViewService viewService;
+    private final IcsService icsService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<EventResponse>>> getAllEvents(
@@ -60,6 +82,39 @@ public class CalendarEventController {
         return ResponseEntity.ok(ApiResponse.success(events));
     }
 
+    // Events bucketed per day for a day, week or month grid around the anchor date (default today)
+    @GetMapping("/view")
+    public ResponseEntity<ApiResponse<CalendarViewResponse>> getCalendarView(
+            @RequestParam(defaultValue = "month") String type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate anchor) {
+        log.info("GET /api/events/view - type: {}, anchor: {}", type, anchor);
+        CalendarViewType viewType;
+        try {
+            viewType = CalendarViewType.valueOf(type.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("View type must be one of day, week or month");
+        }
+        CalendarViewResponse view = viewService.getView(viewType, anchor != null ? anchor : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success(view));
+    }
+
+    // The whole calendar as iCalendar, written as rows are read
+    @GetMapping(value = "/export", produces = "text/calendar")
+    public void exportEvents(HttpServletResponse response) throws IOException {
+        log.info("GET /api/events/export");
+        response.setContentType("text/calendar;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"calendar.ics\"");
+        icsService.exportEvents(response.getWriter());
+    }
+
+    // Raw iCalendar request body; events with a UID the user already has are skipped
+    @PostMapping(value = "/import", consumes = {"text/calendar", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ApiResponse<IcsImportResponse>> importEvents(InputStream ics) {
+        log.info("POST /api/events/import");
+        IcsImportResponse result = icsService.importEvents(ics);
+        return ResponseEntity.ok(ApiResponse.success("Calendar imported", result));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<EventResponse>> getEventById(@PathVariable String id) {
         log.info("GET /api/events/{}", id);
@@ -91,6 +146,25 @@ public class CalendarEventController {
         return ResponseEntity.ok(ApiResponse.success("Event deleted successfully", null));
     }
 
+    @PutMapping("/{id}/occurrences/{originalStart}")
+    public ResponseEntity<ApiResponse<EventResponse>> updateOccurrence(
+            @PathVariable String id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStart,
+            @Valid @RequestBody UpdateEventRequest request) {
+        log.info("PUT /api/events/{}/occurrences/{}", id, originalStart);
+        EventResponse event = eventService.updateOccurrence(id, originalStart, request);
+        return ResponseEntity.ok(ApiResponse.success("Occurrence updated successfully", event));
+    }
+
+    @DeleteMapping("/{id}/occurrences/{originalStart}")
+    public ResponseEntity<ApiResponse<Void>> cancelOccurrence(
+            @PathVariable String id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStart) {
+        log.info("DELETE /api/events/{}/occurrences/{}", id, originalStart);
+        eventService.cancelOccurrence(id, originalStart);
+        return ResponseEntity.ok(ApiResponse.success("Occurrence cancelled successfully", null));
+    }
+
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<EventStatsResponse>> getEventStats() {
         log.info("GET /api/events/stats");
@@ -113,6 +187,23 @@ public class CalendarEventController {
         return ResponseEntity.ok(ApiResponse.success(events));
     }
 
+    @GetMapping("/now")
+    public ResponseEntity<ApiResponse<List<EventResponse>>> getCurrentEvents() {
+        log.info("GET /api/events/now");
+        List<EventResponse> events = eventService.getCurrentEvents();
+        return ResponseEntity.ok(ApiResponse.success(events));
+    }
+
+    @GetMapping("/freebusy")
+    public ResponseEntity<ApiResponse<FreeBusyResponse>> getFreeBusy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "15") int granularity) {
+        log.info("GET /api/events/freebusy - from: {}, to: {}, granularity: {}", from, to, granularity);
+        FreeBusyResponse freeBusy = eventService.getFreeBusy(from, to, granularity);
+        return ResponseEntity.ok(ApiResponse.success(freeBusy));
+    }
+
     @PostMapping("/conflicts")
     public ResponseEntity<ApiResponse<List<EventResponse>>> checkConflicts(
             @RequestParam(required = false) String eventId,
@@ -122,6 +213,23 @@ public class CalendarEventController {
         return ResponseEntity.ok(ApiResponse.success(conflicts));
     }
 
+    @PostMapping("/conflicts/batch")
+    public ResponseEntity<ApiResponse<List<SlotConflictsResponse>>> checkConflictsBatch(
+            @Valid @RequestBody BatchConflictRequest request) {
+        log.info("POST /api/events/conflicts/batch - slots: {}", request.getSlots().size());
+        List<SlotConflictsResponse> conflicts = eventService.getConflictingEvents(request);
+        return ResponseEntity.ok(ApiResponse.success(conflicts));
+    }
+
+    @PostMapping("/availability")
+    public ResponseEntity<ApiResponse<List<AvailableSlotResponse>>> findAvailableSlots(
+            @Valid @RequestBody FindSlotsRequest request) {
+        log.info("POST /api/events/availability - participants: {}, duration: {}",
+                request.getParticipants() == null ? 0 : request.getParticipants().size(), request.getDurationMinutes());
+        List<AvailableSlotResponse> slots = availabilityService.findAvailableSlots(request);
+        return ResponseEntity.ok(ApiResponse.success(slots));
+    }
+
     private boolean hasFilters(EventFiltersDto filters) {
         return filters.getCategory() != null ||
                 filters.getPriority() != null ||
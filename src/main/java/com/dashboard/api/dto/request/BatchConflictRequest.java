@@ -0,0 +1,26 @@
+// src/main/java/com/dashboard/api/dto/request/BatchConflictRequest.java
+package com.dashboard.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchConflictRequest {
+
+    @NotEmpty(message = "At least one time slot is required")
+    @Size(max = 100, message = "At most 100 time slots can be checked at once")
+    private List<@Valid TimeSlotRequest> slots;
+
+    // Event being rescheduled, ignored as a conflict
+    private String eventId;
+}
@@ -46,4 +46,8 @@ public class CreateEventRequest {
 
     @Builder.Default
     private Boolean isAllDay = false;
+
+    // RRULE subset, e.g. FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20261231
+    @Size(max = 255, message = "Recurrence rule must not exceed 255 characters")
+    private String recurrenceRule;
 }
\ No newline at end of file
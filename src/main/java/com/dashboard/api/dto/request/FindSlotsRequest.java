@@ -0,0 +1,57 @@
+// src/main/java/com/dashboard/api/dto/request/FindSlotsRequest.java
+package com.dashboard.api.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FindSlotsRequest {
+
+    // Other users who must be free; the current user is always included
+    @Size(max = 50, message = "At most 50 participants are supported")
+    @Builder.Default
+    private List<@Email(message = "Participants must be email addresses") String> participants = new ArrayList<>();
+
+    @NotNull(message = "From is required")
+    private LocalDateTime from;
+
+    @NotNull(message = "To is required")
+    private LocalDateTime to;
+
+    @NotNull(message = "Duration is required")
+    @Min(value = 1, message = "Duration must be at least 1 minute")
+    @Max(value = 1440, message = "Duration must not exceed one day")
+    private Integer durationMinutes;
+
+    @Builder.Default
+    private Integer granularityMinutes = 15;
+
+    @Builder.Default
+    private LocalTime workdayStart = LocalTime.of(9, 0);
+
+    @Builder.Default
+    private LocalTime workdayEnd = LocalTime.of(17, 0);
+
+    @Builder.Default
+    private Boolean includeWeekends = false;
+
+    @Min(value = 1, message = "Count must be at least 1")
+    @Max(value = 20, message = "Count must not exceed 20")
+    @Builder.Default
+    private Integer count = 1;
+}
@@ -38,4 +38,8 @@ public class UpdateEventRequest {
     private String color;
 
     private Boolean isAllDay;
+
+    // Empty string removes the recurrence
+    @Size(max = 255, message = "Recurrence rule must not exceed 255 characters")
+    private String recurrenceRule;
 }
\ No newline at end of file
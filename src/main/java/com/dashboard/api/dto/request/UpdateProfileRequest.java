@@ -17,4 +17,7 @@ public class UpdateProfileRequest {
     @Email(message = "Please provide a valid email address")
     @Size(max = 100, message = "Email must not exceed 100 characters")
     private String email;
+
+    // Share free/busy time with other users for availability searches; null leaves it unchanged
+    private Boolean shareFreeBusy;
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+// src/main/java/com/dashboard/api/dto/response/AgendaItemResponse.java
+package com.dashboard.api.dto.response;
+
+import com.dashboard.api.enums.AgendaItemType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendaItemResponse {
+
+    private AgendaItemType type;
+    private LocalDate date;
+    // Event start, or midnight of the due date for todos
+    private LocalDateTime at;
+    // Exactly one of these is set, matching type
+    private EventResponse event;
+    private TodoResponse todo;
+}
@@ -0,0 +1,20 @@
+// src/main/java/com/dashboard/api/dto/response/AgendaPageResponse.java
+package com.dashboard.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendaPageResponse {
+
+    private List<AgendaItemResponse> items;
+    // Pass back as `token` with the same range for the next page; null on the last page
+    private String nextToken;
+}
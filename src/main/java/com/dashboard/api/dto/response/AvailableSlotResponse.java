@@ -0,0 +1,19 @@
+// src/main/java/com/dashboard/api/dto/response/AvailableSlotResponse.java
+package com.dashboard.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableSlotResponse {
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,19 @@
+// src/main/java/com/dashboard/api/dto/response/BusyBlockResponse.java
+package com.dashboard.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusyBlockResponse {
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
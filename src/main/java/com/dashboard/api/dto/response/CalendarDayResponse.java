@@ -0,0 +1,21 @@
+// src/main/java/com/dashboard/api/dto/response/CalendarDayResponse.java
+package com.dashboard.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarDayResponse {
+
+    private LocalDate date;
+    // Whole-day segments first, then by start time
+    private List<DaySegmentResponse> events;
+}
@@ -0,0 +1,24 @@
+// src/main/java/com/dashboard/api/dto/response/CalendarViewResponse.java
+package com.dashboard.api.dto.response;
+
+import com.dashboard.api.enums.CalendarViewType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarViewResponse {
+
+    private CalendarViewType type;
+    // Whole weeks for week and month views, both ends inclusive
+    private LocalDate from;
+    private LocalDate to;
+    private List<CalendarDayResponse> days;
+}
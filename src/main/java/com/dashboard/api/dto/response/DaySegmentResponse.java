@@ -0,0 +1,25 @@
+// src/main/java/com/dashboard/api/dto/response/DaySegmentResponse.java
+package com.dashboard.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// The part of an event that falls on one day of a calendar view
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DaySegmentResponse {
+
+    private EventResponse event;
+    private LocalDateTime segmentStart;
+    private LocalDateTime segmentEnd;
+    // All-day events, and days a multi-day event covers from midnight to midnight
+    private boolean wholeDay;
+    private boolean continuesFromPreviousDay;
+    private boolean continuesToNextDay;
+}
@@ -28,6 +28,10 @@ public class EventResponse {
     private List<String> attendees;
     private String color;
     private Boolean isAllDay;
+    private String recurrenceRule;
+    // Set on occurrences of a series: the series id and the occurrence's unmodified start
+    private String seriesId;
+    private LocalDateTime originalStartTime;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,23 @@
+// src/main/java/com/dashboard/api/dto/response/FreeBusyResponse.java
+package com.dashboard.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeBusyResponse {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int granularityMinutes;
+    // Merged, non-overlapping busy intervals in start order; everything else in [from, to) is free
+    private List<BusyBlockResponse> busy;
+}
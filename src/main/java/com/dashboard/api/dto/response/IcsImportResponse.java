@@ -0,0 +1,23 @@
+// src/main/java/com/dashboard/api/dto/response/IcsImportResponse.java
+package com.dashboard.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IcsImportResponse {
+
+    private int imported;
+    // Events whose UID the user already had, or that appeared earlier in the same file
+    private int duplicates;
+    private int skipped;
+    // First few reasons events were skipped
+    private List<String> errors;
+}
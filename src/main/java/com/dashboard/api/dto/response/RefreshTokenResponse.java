@@ -14,6 +14,9 @@ public class RefreshTokenResponse {
 
     private String accessToken;
 
+    // Rotated refresh token; the one sent with the request is no longer valid
+    private String refreshToken;
+
     @Builder.Default
     private String tokenType = "Bearer";
 
@@ -0,0 +1,21 @@
+// src/main/java/com/dashboard/api/dto/response/SessionResponse.java
+package com.dashboard.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionResponse {
+
+    private String sessionId;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastUsedAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,21 @@
+// src/main/java/com/dashboard/api/dto/response/SlotConflictsResponse.java
+package com.dashboard.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotConflictsResponse {
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private List<EventResponse> conflicts;
+}
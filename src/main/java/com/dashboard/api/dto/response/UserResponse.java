@@ -12,6 +12,7 @@ public class UserResponse {
     private String name;
     private String username;
     private String email;
+    private Boolean shareFreeBusy;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
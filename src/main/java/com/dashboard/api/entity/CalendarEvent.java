@@ -8,17 +8,21 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "calendar_events", indexes = {
-        @Index(name = "idx_event_user_id", columnList = "user_id"),
-        @Index(name = "idx_event_start_time", columnList = "start_time"),
+        // Every event query is per user and most filter or sort on start_time
+        @Index(name = "idx_event_user_start_time", columnList = "user_id, start_time"),
         @Index(name = "idx_event_end_time", columnList = "end_time"),
         @Index(name = "idx_event_category", columnList = "category"),
-        @Index(name = "idx_event_priority", columnList = "priority")
+        @Index(name = "idx_event_priority", columnList = "priority"),
+        @Index(name = "idx_event_series_id", columnList = "series_id")
 })
 @Getter
 @Setter
@@ -64,6 +68,7 @@ public class CalendarEvent extends BaseEntity {
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "event_attendees", joinColumns = @JoinColumn(name = "event_id"))
     @Column(name = "attendee")
+    @BatchSize(size = 50)
     private List<String> attendees;
 
     @NotNull(message = "Color cannot be null")
@@ -75,7 +80,39 @@ public class CalendarEvent extends BaseEntity {
     @Builder.Default
     private Boolean isAllDay = false;
 
+    // Recurring series: stored once, start/end describe the first occurrence and occurrences
+    // are expanded per query window (see RecurrenceRule)
+    @Column(name = "recurrence_rule")
+    private String recurrenceRule;
+
+    // End of the last occurrence; null for series without COUNT or UNTIL
+    @Column(name = "recurrence_end")
+    private LocalDateTime recurrenceEnd;
+
+    // Occurrence starts of this series that were cancelled or replaced by an override
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "event_recurrence_exceptions", joinColumns = @JoinColumn(name = "event_id"))
+    @Column(name = "original_start")
+    @BatchSize(size = 50)
+    @Builder.Default
+    private Set<LocalDateTime> excludedStarts = new HashSet<>();
+
+    // Set on an override of a single occurrence: the series it replaces an occurrence of
+    @Column(name = "series_id", length = 36)
+    private String seriesId;
+
+    @Column(name = "original_start_time")
+    private LocalDateTime originalStartTime;
+
+    // UID of the iCalendar event this was imported from; unique per user (idx_event_user_ical_uid)
+    @Column(name = "ical_uid")
+    private String icalUid;
+
     // Helper methods
+    public boolean isRecurring() {
+        return recurrenceRule != null;
+    }
+
     public boolean isPast() {
         return endTime.isBefore(LocalDateTime.now());
     }
@@ -31,6 +31,10 @@ public class Otp extends BaseEntity {
     @Builder.Default
     private Boolean used = false;
 
+    @Column(name = "failed_attempts", nullable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private Integer failedAttempts = 0;
+
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(this.expiresAt);
     }
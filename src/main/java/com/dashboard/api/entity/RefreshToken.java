@@ -8,8 +8,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "refresh_tokens", indexes = {
-        @Index(name = "idx_refresh_token", columnList = "token"),
-        @Index(name = "idx_user_id", columnList = "user_id")
+        @Index(name = "idx_refresh_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
 })
 @Getter
 @Setter
@@ -22,7 +23,25 @@ public class RefreshToken extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, unique = true, length = 500)
+    // SHA-256 of the raw token; the raw value is never stored
+    @Column(name = "token_hash", nullable = false, columnDefinition = "bytea")
+    private byte[] tokenHash;
+
+    // Public, non-secret half of the token. Stays the same across rotations, so it identifies the
+    // session, i.e. the token family; retired members are kept in RetiredRefreshToken
+    @Column(nullable = false, length = 16)
+    private String selector;
+
+    // jti of the access token most recently issued for this session, revoked together with it
+    @Column(name = "access_token_id", length = 36)
+    private String accessTokenId;
+
+    // When the session was created or last rotated, i.e. when its current access token was issued
+    @Column(name = "last_used_at")
+    private LocalDateTime lastUsedAt;
+
+    // Raw token, only populated on the instance returned when the token is created
+    @Transient
     private String token;
 
     @Column(name = "expires_at", nullable = false)
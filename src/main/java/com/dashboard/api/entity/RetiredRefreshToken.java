@@ -0,0 +1,35 @@
+// src/main/java/com/dashboard/api/entity/RetiredRefreshToken.java
+package com.dashboard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// A refresh token that was rotated away. Presenting it again means the token family leaked.
+// Kept apart from the session row, without a foreign key, so the evidence outlives a revoked or
+// deleted session until the session would have expired.
+@Entity
+@Table(name = "retired_refresh_tokens", indexes = {
+        @Index(name = "idx_retired_refresh_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_retired_refresh_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RetiredRefreshToken extends BaseEntity {
+
+    // SHA-256 of the retired raw token
+    @Column(name = "token_hash", nullable = false, columnDefinition = "bytea")
+    private byte[] tokenHash;
+
+    // Id of the refresh_tokens row (the session) the token belonged to
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    // Expiry of the session when the token was retired
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
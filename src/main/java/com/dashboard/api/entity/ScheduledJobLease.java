@@ -0,0 +1,50 @@
+// src/main/java/com/dashboard/api/entity/ScheduledJobLease.java
+package com.dashboard.api.entity;
+
+import com.dashboard.api.enums.JobOutcome;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// One row per scheduled job. The instance holding an unexpired lease is the only one running the
+// job; the row also records how the last run went and where a chunked job should resume.
+@Entity
+@Table(name = "scheduled_job_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledJobLease {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "lease_owner", length = 200)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_started_at")
+    private LocalDateTime lastStartedAt;
+
+    @Column(name = "last_finished_at")
+    private LocalDateTime lastFinishedAt;
+
+    @Column(name = "last_duration_ms")
+    private Long lastDurationMs;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_outcome", length = 20)
+    private JobOutcome lastOutcome;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // Position a chunked job stopped at; null when the last run completed
+    @Column(name = "resume_cursor", length = 500)
+    private String resumeCursor;
+}
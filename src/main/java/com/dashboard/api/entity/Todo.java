@@ -8,6 +8,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.List;
 @Entity
 @Table(name = "todos", indexes = {
         @Index(name = "idx_todo_user_id", columnList = "user_id"),
+        @Index(name = "idx_todo_user_due_date", columnList = "user_id, due_date"),
         @Index(name = "idx_todo_completed", columnList = "completed"),
         @Index(name = "idx_todo_due_date", columnList = "due_date"),
         @Index(name = "idx_todo_category", columnList = "category"),
@@ -61,6 +63,7 @@ public class Todo extends BaseEntity {
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "todo_tags", joinColumns = @JoinColumn(name = "todo_id"))
     @Column(name = "tag")
+    @BatchSize(size = 50)
     private List<String> tags;
 
     // Helper method to check if todo is overdue
@@ -62,6 +62,11 @@ public class User extends BaseEntity implements UserDetails {
     @Builder.Default
     private Boolean credentialsNonExpired = true;
 
+    // Lets other users of this deployment include this account in availability searches
+    @Column(name = "share_free_busy", nullable = false, columnDefinition = "boolean default false")
+    @Builder.Default
+    private Boolean shareFreeBusy = false;
+
     // UserDetails implementation methods
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -0,0 +1,8 @@
+// src/main/java/com/dashboard/api/enums/AgendaItemType.java
+package com.dashboard.api.enums;
+
+// Declaration order is the agenda order for items at the same time: todos due on a day come
+// before that day's midnight events
+public enum AgendaItemType {
+    TODO, EVENT
+}
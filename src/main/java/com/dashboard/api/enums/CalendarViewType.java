@@ -0,0 +1,6 @@
+// src/main/java/com/dashboard/api/enums/CalendarViewType.java
+package com.dashboard.api.enums;
+
+public enum CalendarViewType {
+    DAY, WEEK, MONTH
+}
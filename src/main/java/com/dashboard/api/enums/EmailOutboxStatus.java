@@ -0,0 +1,6 @@
+// src/main/java/com/dashboard/api/enums/EmailOutboxStatus.java
+package com.dashboard.api.enums;
+
+public enum EmailOutboxStatus {
+    PENDING, SENT, DEAD
+}
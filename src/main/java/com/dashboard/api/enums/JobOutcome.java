@@ -0,0 +1,8 @@
+// src/main/java/com/dashboard/api/enums/JobOutcome.java
+package com.dashboard.api.enums;
+
+public enum JobOutcome {
+    SUCCESS,
+    PARTIAL, // Stopped at its chunk limit; the next run resumes from the saved cursor
+    FAILED
+}
@@ -0,0 +1,27 @@
+// src/main/java/com/dashboard/api/ical/IcsEvent.java
+package com.dashboard.api.ical;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// One VEVENT. Times are local wall-clock times like every event time in the application. For
+// all-day events start and end are midnights and end is exclusive, as DTEND is in iCalendar.
+public record IcsEvent(
+        String uid,
+        String summary,
+        String description,
+        String location,
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean allDay,
+        List<String> attendees,
+        String category,
+        Integer priority,
+        String color,
+        String recurrenceRule,
+        List<LocalDateTime> excludedStarts,
+        LocalDateTime recurrenceId,
+        LocalDateTime created,
+        LocalDateTime lastModified
+) {
+}
@@ -0,0 +1,332 @@
+// src/main/java/com/dashboard/api/ical/IcsReader.java
+package com.dashboard.api.ical;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// Reads the VEVENTs of an iCalendar stream one at a time, so a feed of any size is parsed in
+// constant memory. Folded lines are unfolded, nested components (VALARM) and everything outside
+// VEVENTs are ignored. UTC and TZID times are converted to the server's zone; floating times are
+// taken as they are.
+//
+// next() throws IllegalArgumentException for an event it cannot read, after consuming it, so the
+// caller can skip that event and carry on.
+public class IcsReader implements Iterator<IcsEvent>, Closeable {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final BufferedReader reader;
+    private final ZoneId zone;
+    private String lookahead;
+    private int lookaheadNumber;
+    private int lineNumber;
+    // Physical line the last unfolded line started on
+    private int unfoldedNumber;
+    private int eventLine;
+    private List<ContentLine> pending;
+
+    public IcsReader(Reader reader, ZoneId zone) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.zone = zone;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pending == null) {
+            pending = readEvent();
+        }
+        return pending != null;
+    }
+
+    @Override
+    public IcsEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<ContentLine> lines = pending;
+        pending = null;
+        try {
+            return toEvent(lines);
+        } catch (DateTimeException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Event at line " + eventLine + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // Properties of the next VEVENT, or null at the end of the stream
+    private List<ContentLine> readEvent() {
+        List<ContentLine> lines = null;
+        int depth = 0;
+        String line;
+        while ((line = readUnfolded()) != null) {
+            ContentLine content = ContentLine.parse(line);
+            if (content == null) {
+                continue;
+            }
+            if (lines == null) {
+                if (content.is("BEGIN") && content.value.equalsIgnoreCase("VEVENT")) {
+                    lines = new ArrayList<>();
+                    eventLine = unfoldedNumber;
+                }
+                continue;
+            }
+            if (content.is("BEGIN")) {
+                depth++;
+            } else if (content.is("END")) {
+                if (depth == 0) {
+                    return lines;
+                }
+                depth--;
+            } else if (depth == 0) {
+                lines.add(content);
+            }
+        }
+        // A truncated feed ends inside an event; keep what was read
+        return lines;
+    }
+
+    private String readUnfolded() {
+        try {
+            String line = lookahead != null ? lookahead : nextPhysicalLine();
+            if (line == null) {
+                return null;
+            }
+            unfoldedNumber = lookahead != null ? lookaheadNumber : lineNumber;
+            StringBuilder unfolded = null;
+            String next;
+            while ((next = nextPhysicalLine()) != null && !next.isEmpty()
+                    && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+                if (unfolded == null) {
+                    unfolded = new StringBuilder(line);
+                }
+                unfolded.append(next, 1, next.length());
+            }
+            lookahead = next;
+            lookaheadNumber = lineNumber;
+            return unfolded != null ? unfolded.toString() : line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String nextPhysicalLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    private IcsEvent toEvent(List<ContentLine> lines) {
+        String uid = null;
+        String summary = null;
+        String description = null;
+        String location = null;
+        String category = null;
+        Integer priority = null;
+        String color = null;
+        String recurrenceRule = null;
+        ContentLine dtStart = null;
+        ContentLine dtEnd = null;
+        String duration = null;
+        LocalDateTime recurrenceId = null;
+        LocalDateTime created = null;
+        LocalDateTime lastModified = null;
+        List<String> attendees = new ArrayList<>();
+        List<LocalDateTime> excludedStarts = new ArrayList<>();
+
+        for (ContentLine line : lines) {
+            switch (line.name) {
+                case "UID" -> uid = line.value.trim();
+                case "SUMMARY" -> summary = unescape(line.value);
+                case "DESCRIPTION" -> description = unescape(line.value);
+                case "LOCATION" -> location = unescape(line.value);
+                case "CATEGORIES" -> category = category != null ? category : unescape(line.value.split("(?<!\\\\),")[0]).trim();
+                case "PRIORITY" -> priority = Integer.valueOf(line.value.trim());
+                case "X-DASHFORGE-COLOR" -> color = line.value.trim();
+                case "RRULE" -> recurrenceRule = line.value.trim();
+                case "DTSTART" -> dtStart = line;
+                case "DTEND" -> dtEnd = line;
+                case "DURATION" -> duration = line.value.trim();
+                case "RECURRENCE-ID" -> recurrenceId = parseTime(line, line.value);
+                case "CREATED" -> created = parseTime(line, line.value);
+                case "LAST-MODIFIED" -> lastModified = parseTime(line, line.value);
+                case "ATTENDEE" -> {
+                    String attendee = attendee(line);
+                    if (attendee != null) {
+                        attendees.add(attendee);
+                    }
+                }
+                case "EXDATE" -> {
+                    for (String value : line.value.split(",")) {
+                        excludedStarts.add(parseTime(line, value.trim()));
+                    }
+                }
+                default -> {
+                    // Other properties have no counterpart on CalendarEvent
+                }
+            }
+        }
+
+        if (dtStart == null) {
+            throw new IllegalArgumentException("DTSTART is missing");
+        }
+        boolean allDay = isDate(dtStart, dtStart.value);
+        LocalDateTime start = parseTime(dtStart, dtStart.value);
+        LocalDateTime end;
+        if (dtEnd != null) {
+            end = parseTime(dtEnd, dtEnd.value);
+        } else if (duration != null) {
+            end = start.plus(parseDuration(duration));
+        } else {
+            // RFC 5545: a date-only event without DTEND lasts one day, a timed one no time at all
+            end = allDay ? start.plusDays(1) : start;
+        }
+
+        return new IcsEvent(uid, summary, description, location, start, end, allDay, attendees, category,
+                priority, color, recurrenceRule, excludedStarts, recurrenceId, created, lastModified);
+    }
+
+    private LocalDateTime parseTime(ContentLine line, String value) {
+        if (isDate(line, value)) {
+            return LocalDate.parse(value, DATE).atStartOfDay();
+        }
+        if (value.endsWith("Z")) {
+            return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME)
+                    .atOffset(ZoneOffset.UTC).atZoneSameInstant(zone).toLocalDateTime();
+        }
+        LocalDateTime local = LocalDateTime.parse(value, DATE_TIME);
+        ZoneId source = timeZone(line.params.get("TZID"));
+        return source == null ? local : local.atZone(source).withZoneSameInstant(zone).toLocalDateTime();
+    }
+
+    private static boolean isDate(ContentLine line, String value) {
+        return "DATE".equalsIgnoreCase(line.params.get("VALUE")) || value.length() == 8;
+    }
+
+    // Unknown zone names (Outlook's "Eastern Standard Time") are treated as floating time
+    private static ZoneId timeZone(String tzid) {
+        if (tzid == null) {
+            return null;
+        }
+        try {
+            return ZoneId.of(tzid.startsWith("/") ? tzid.substring(1) : tzid);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    // java.time.Duration understands everything but weeks
+    private static Duration parseDuration(String value) {
+        String duration = value.startsWith("+") ? value.substring(1) : value;
+        if (duration.endsWith("W")) {
+            boolean negative = duration.startsWith("-");
+            long weeks = Long.parseLong(duration.substring(negative ? 2 : 1, duration.length() - 1));
+            return Duration.ofDays(7 * (negative ? -weeks : weeks));
+        }
+        return Duration.parse(duration);
+    }
+
+    // The mailbox of a mailto: address, otherwise the display name
+    private static String attendee(ContentLine line) {
+        String value = line.value.trim();
+        if (value.regionMatches(true, 0, "mailto:", 0, 7) && value.length() > 7) {
+            return value.substring(7);
+        }
+        String name = line.params.get("CN");
+        return name != null && !name.isBlank() ? name : null;
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder text = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+
+    // NAME;PARAM=value;PARAM="quoted":value
+    private static final class ContentLine {
+
+        private final String name;
+        private final Map<String, String> params;
+        private final String value;
+
+        private ContentLine(String name, Map<String, String> params, String value) {
+            this.name = name;
+            this.params = params;
+            this.value = value;
+        }
+
+        private boolean is(String property) {
+            return name.equals(property);
+        }
+
+        // Null for blank or malformed lines
+        private static ContentLine parse(String line) {
+            int nameEnd = 0;
+            while (nameEnd < line.length() && line.charAt(nameEnd) != ';' && line.charAt(nameEnd) != ':') {
+                nameEnd++;
+            }
+            if (nameEnd == 0 || nameEnd == line.length()) {
+                return null;
+            }
+            String name = line.substring(0, nameEnd).trim().toUpperCase(Locale.ROOT);
+
+            Map<String, String> params = new HashMap<>();
+            int position = nameEnd;
+            while (position < line.length() && line.charAt(position) == ';') {
+                int paramStart = position + 1;
+                boolean quoted = false;
+                position = paramStart;
+                while (position < line.length() && (quoted || (line.charAt(position) != ';' && line.charAt(position) != ':'))) {
+                    if (line.charAt(position) == '"') {
+                        quoted = !quoted;
+                    }
+                    position++;
+                }
+                String param = line.substring(paramStart, position);
+                int equals = param.indexOf('=');
+                if (equals > 0) {
+                    params.put(param.substring(0, equals).trim().toUpperCase(Locale.ROOT),
+                            param.substring(equals + 1).replace("\"", ""));
+                }
+            }
+            if (position >= line.length()) {
+                return null;
+            }
+            return new ContentLine(name, params, line.substring(position + 1));
+        }
+    }
+}
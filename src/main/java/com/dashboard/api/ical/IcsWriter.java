@@ -0,0 +1,131 @@
+// src/main/java/com/dashboard/api/ical/IcsWriter.java
+package com.dashboard.api.ical;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+// Writes an iCalendar stream event by event. Times are written as floating local times, which is
+// what the application stores; content lines are folded at 75 octets as RFC 5545 requires.
+public class IcsWriter {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer out;
+    private final ZoneId zone;
+
+    public IcsWriter(Writer out, ZoneId zone) {
+        this.out = out;
+        this.zone = zone;
+    }
+
+    public void begin() throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//Dashforge//Personal Dashboard//EN");
+        line("CALSCALE:GREGORIAN");
+    }
+
+    public void write(IcsEvent event) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + event.uid());
+        // DTSTAMP and the audit times are UTC by definition
+        line("DTSTAMP:" + utc(event.lastModified() != null ? event.lastModified() : LocalDateTime.now()));
+        if (event.created() != null) {
+            line("CREATED:" + utc(event.created()));
+        }
+        if (event.lastModified() != null) {
+            line("LAST-MODIFIED:" + utc(event.lastModified()));
+        }
+        if (event.recurrenceId() != null) {
+            line("RECURRENCE-ID" + time(event.recurrenceId(), event.allDay()));
+        }
+        line("DTSTART" + time(event.start(), event.allDay()));
+        line("DTEND" + time(event.end(), event.allDay()));
+        line("SUMMARY:" + escape(event.summary() != null ? event.summary() : ""));
+        if (event.description() != null && !event.description().isEmpty()) {
+            line("DESCRIPTION:" + escape(event.description()));
+        }
+        if (event.location() != null && !event.location().isEmpty()) {
+            line("LOCATION:" + escape(event.location()));
+        }
+        if (event.category() != null) {
+            line("CATEGORIES:" + escape(event.category()));
+        }
+        if (event.priority() != null) {
+            line("PRIORITY:" + event.priority());
+        }
+        if (event.color() != null) {
+            line("X-DASHFORGE-COLOR:" + event.color());
+        }
+        if (event.recurrenceRule() != null) {
+            line("RRULE:" + event.recurrenceRule());
+            for (LocalDateTime excluded : event.excludedStarts()) {
+                line("EXDATE" + time(excluded, event.allDay()));
+            }
+        }
+        for (String attendee : event.attendees()) {
+            line(attendee.contains("@")
+                    ? "ATTENDEE:mailto:" + attendee
+                    : "ATTENDEE;CN=\"" + attendee.replace("\"", "'") + "\":invalid:nomail");
+        }
+        line("END:VEVENT");
+    }
+
+    public void end() throws IOException {
+        line("END:VCALENDAR");
+        out.flush();
+    }
+
+    private String utc(LocalDateTime time) {
+        return DATE_TIME.format(time.atZone(zone).withZoneSameInstant(ZoneOffset.UTC)) + "Z";
+    }
+
+    private static String time(LocalDateTime time, boolean allDay) {
+        return allDay ? ";VALUE=DATE:" + DATE.format(time) : ":" + DATE_TIME.format(time);
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                    // Dropped; \r\n becomes \n
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // Folds after 75 octets without splitting a UTF-8 sequence; continuation lines start with a space
+    private void line(String content) throws IOException {
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+        int segmentStart = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int width = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + width > limit) {
+                out.write(content, segmentStart, i - segmentStart);
+                out.write("\r\n ");
+                segmentStart = i;
+                octets = 0;
+                // The leading space counts towards the next line's 75
+                limit = MAX_LINE_OCTETS - 1;
+            }
+            octets += width;
+            i += Character.charCount(codePoint);
+        }
+        out.write(content, segmentStart, content.length() - segmentStart);
+        out.write("\r\n");
+    }
+}
@@ -0,0 +1,206 @@
+// src/main/java/com/dashboard/api/mail/SmtpTransportPool.java
+package com.dashboard.api.mail;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Keeps a few authenticated SMTP connections open so a batch of messages pays the
+// TCP + STARTTLS + AUTH handshake once instead of once per message.
+@Component
+@Slf4j
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final long idleTimeoutMs;
+    private final long borrowTimeoutMs;
+
+    public SmtpTransportPool(
+            JavaMailSenderImpl mailSender,
+            @Value("${app.email.smtp-pool.max-sessions:2}") int maxSessions,
+            @Value("${app.email.smtp-pool.idle-timeout-ms:60000}") long idleTimeoutMs,
+            @Value("${app.email.smtp-pool.borrow-timeout-ms:30000}") long borrowTimeoutMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.mailSender = mailSender;
+        this.permits = new Semaphore(maxSessions, true);
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+
+        Gauge.builder("email.smtp.sessions.idle", idle, LinkedBlockingDeque::size)
+                .description("Open SMTP sessions waiting in the pool")
+                .register(meterRegistry);
+    }
+
+    public Session getSession() {
+        return mailSender.getSession();
+    }
+
+    // Sends the batch over one pooled session. The result holds one entry per message:
+    // null when it was accepted by the server, otherwise the failure. Never throws; once the
+    // session is lost and cannot be reopened the rest of the batch fails with that error.
+    public List<Exception> sendBatch(List<MimeMessage> messages) {
+        List<Exception> results = new ArrayList<>(messages.size());
+        PooledTransport transport;
+        try {
+            transport = borrow();
+        } catch (Exception e) {
+            messages.forEach(message -> results.add(e));
+            return results;
+        }
+
+        try {
+            Exception sessionFailure = null;
+            for (MimeMessage message : messages) {
+                if (sessionFailure != null) {
+                    results.add(sessionFailure);
+                    continue;
+                }
+                Exception failure = sendWithReconnect(transport, message);
+                results.add(failure);
+                if (failure != null && !transport.isConnected()) {
+                    sessionFailure = failure;
+                }
+            }
+        } finally {
+            giveBack(transport);
+        }
+        return results;
+    }
+
+    private Exception sendWithReconnect(PooledTransport pooled, MimeMessage message) {
+        try {
+            message.saveChanges();
+            pooled.transport.sendMessage(message, message.getAllRecipients());
+            return null;
+        } catch (SendFailedException e) {
+            // Rejected recipients; the connection itself is fine
+            return e;
+        } catch (MessagingException | IllegalStateException e) {
+            // Transport throws IllegalStateException when the server has already closed the connection
+            log.warn("SMTP session failed ({}), reconnecting", e.getMessage());
+            try {
+                pooled.reconnect();
+                pooled.transport.sendMessage(message, message.getAllRecipients());
+                return null;
+            } catch (MessagingException | RuntimeException retryFailure) {
+                return retryFailure;
+            }
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException, InterruptedException {
+        if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new MessagingException("Timed out waiting for an SMTP session");
+        }
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (pooled.isUsable(idleTimeoutMs)) {
+                    return pooled;
+                }
+                pooled.close();
+            }
+            return open();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void giveBack(PooledTransport pooled) {
+        pooled.lastUsedAt = System.currentTimeMillis();
+        if (pooled.isConnected()) {
+            idle.offerFirst(pooled);
+        } else {
+            pooled.close();
+        }
+        permits.release();
+    }
+
+    private PooledTransport open() throws MessagingException {
+        PooledTransport pooled = new PooledTransport(mailSender);
+        pooled.reconnect();
+        log.debug("Opened SMTP session to {}:{}", mailSender.getHost(), mailSender.getPort());
+        return pooled;
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.smtp-pool.eviction-interval-ms:30000}")
+    public void evictIdleSessions() {
+        Iterator<PooledTransport> iterator = idle.descendingIterator();
+        while (iterator.hasNext()) {
+            PooledTransport pooled = iterator.next();
+            if (!pooled.isUsable(idleTimeoutMs) && idle.remove(pooled)) {
+                pooled.close();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            pooled.close();
+        }
+    }
+
+    private static final class PooledTransport {
+        private final JavaMailSenderImpl mailSender;
+        private Transport transport;
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private PooledTransport(JavaMailSenderImpl mailSender) {
+            this.mailSender = mailSender;
+        }
+
+        private void reconnect() throws MessagingException {
+            close();
+            String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp";
+            transport = mailSender.getSession().getTransport(protocol);
+            transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+            lastUsedAt = System.currentTimeMillis();
+        }
+
+        private boolean isConnected() {
+            return transport != null && transport.isConnected();
+        }
+
+        private boolean isUsable(long idleTimeoutMs) {
+            return isConnected()
+                    && System.currentTimeMillis() - lastUsedAt < idleTimeoutMs;
+        }
+
+        private void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Error closing SMTP session: {}", e.getMessage());
+            }
+            transport = null;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.dashboard.api.dto.request.UpdateEventRequest;
 import com.dashboard.api.dto.response.EventResponse;
 import com.dashboard.api.entity.CalendarEvent;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
@@ -18,7 +19,19 @@ public interface CalendarEventMapper {
 
     List<EventResponse> toResponseList(List<CalendarEvent> events);
 
+    // The series' end and the occurrence links are maintained by the event service; the iCalendar
+    // UID is only set by imports
+    @Mapping(target = "recurrenceEnd", ignore = true)
+    @Mapping(target = "excludedStarts", ignore = true)
+    @Mapping(target = "seriesId", ignore = true)
+    @Mapping(target = "originalStartTime", ignore = true)
+    @Mapping(target = "icalUid", ignore = true)
     CalendarEvent toEntity(CreateEventRequest request);
 
+    @Mapping(target = "recurrenceEnd", ignore = true)
+    @Mapping(target = "excludedStarts", ignore = true)
+    @Mapping(target = "seriesId", ignore = true)
+    @Mapping(target = "originalStartTime", ignore = true)
+    @Mapping(target = "icalUid", ignore = true)
     void updateEntity(UpdateEventRequest request, @MappingTarget CalendarEvent event);
 }
@@ -18,6 +18,7 @@ public interface UserMapper {
     @Mapping(target = "accountNonExpired", constant = "true")
     @Mapping(target = "accountNonLocked", constant = "true")
     @Mapping(target = "credentialsNonExpired", constant = "true")
+    @Mapping(target = "shareFreeBusy", constant = "false")
     @Mapping(target = "username", source = "name") // Use name as display username
     User toEntity(RegisterRequest request);
 
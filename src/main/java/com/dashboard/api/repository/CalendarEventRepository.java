@@ -6,7 +6,10 @@ import com.dashboard.api.entity.User;
 import com.dashboard.api.enums.EventCategory;
 import com.dashboard.api.enums.EventPriority;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +17,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CalendarEventRepository extends JpaRepository<CalendarEvent, String> {
@@ -40,27 +44,110 @@ public interface CalendarEventRepository extends JpaRepository<CalendarEvent, St
             nativeQuery = true)
     List<CalendarEvent> findByUserAndSearchTerm(@Param("userId") String userId, @Param("searchTerm") String searchTerm);
 
-    // Date range queries with user context
-    @Query("SELECT e FROM CalendarEvent e WHERE e.user = :user AND e.startTime >= :startDate AND e.startTime <= :endDate ORDER BY e.startTime ASC")
-    List<CalendarEvent> findByUserAndDateRange(@Param("user") User user, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    // Single events overlapping [from, to). Either bound may be null for an open-ended range.
+    // `during` is the generated tsrange column, served by the GiST index idx_event_user_during.
+    // Recurring series are excluded here and expanded separately (see findSeriesOverlapping).
+    @Query(value = "SELECT * FROM calendar_events e WHERE e.user_id = :userId AND e.recurrence_rule IS NULL " +
+            "AND e.during && tsrange(CAST(:from AS timestamp), CAST(:to AS timestamp), '[)') " +
+            "ORDER BY e.start_time ASC",
+            nativeQuery = true)
+    List<CalendarEvent> findOverlappingByUser(@Param("userId") String userId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+
+    // One agenda page of single events starting in [afterTime, to), in (start_time, id) order. Rows
+    // starting exactly at afterTime are kept only if their id sorts after afterId: all of them for
+    // '', none for null. Ids compare bytewise so the order matches String.compareTo.
+    @Query(value = "SELECT * FROM calendar_events e WHERE e.user_id = :userId AND e.recurrence_rule IS NULL " +
+            "AND e.start_time >= :afterTime AND e.start_time < :to " +
+            "AND (e.start_time > :afterTime OR e.id COLLATE \"C\" > CAST(:afterId AS varchar)) " +
+            "ORDER BY e.start_time, e.id COLLATE \"C\" LIMIT :limit",
+            nativeQuery = true)
+    List<CalendarEvent> findAgendaPageByUser(@Param("userId") String userId,
+                                             @Param("afterTime") LocalDateTime afterTime,
+                                             @Param("afterId") String afterId,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("limit") int limit);
+
+    // Every event of the user flattened for iCalendar export, streamed from a cursor. Attendees are joined
+    // with the unit separator (chr(31)). Overrides carry their series' UID; EXDATEs leave out overridden
+    // occurrences, which are exported as their own RECURRENCE-ID events. Needs an open transaction.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = "SELECT e.id AS \"id\", COALESCE(s.ical_uid, s.id, e.ical_uid, e.id) AS \"uid\", " +
+            "e.title AS \"title\", e.description AS \"description\", e.location AS \"location\", " +
+            "e.start_time AS \"startTime\", e.end_time AS \"endTime\", e.is_all_day AS \"allDay\", " +
+            "e.category AS \"category\", e.priority AS \"priority\", e.color AS \"color\", " +
+            "e.recurrence_rule AS \"recurrenceRule\", e.original_start_time AS \"originalStartTime\", " +
+            "e.created_at AS \"createdAt\", e.updated_at AS \"updatedAt\", " +
+            "(SELECT string_agg(a.attendee, chr(31)) FROM event_attendees a WHERE a.event_id = e.id) AS \"attendees\", " +
+            "(SELECT string_agg(to_char(x.original_start, 'YYYYMMDD\"T\"HH24MISS'), ',' ORDER BY x.original_start) " +
+            "FROM event_recurrence_exceptions x WHERE x.event_id = e.id AND NOT EXISTS (SELECT 1 FROM calendar_events o " +
+            "WHERE o.series_id = e.id AND o.original_start_time = x.original_start)) AS \"excludedStarts\" " +
+            "FROM calendar_events e LEFT JOIN calendar_events s ON s.id = e.series_id " +
+            "WHERE e.user_id = :userId ORDER BY e.start_time",
+            nativeQuery = true)
+    Stream<IcsRow> streamIcsRowsByUser(@Param("userId") String userId);
+
+    // Recurring series with at least one occurrence that may overlap [from, to); either bound may be null
+    @Query("SELECT e FROM CalendarEvent e WHERE e.user.id = :userId AND e.recurrenceRule IS NOT NULL " +
+            "AND (:to IS NULL OR e.startTime < :to) " +
+            "AND (:from IS NULL OR e.recurrenceEnd IS NULL OR e.recurrenceEnd > :from) " +
+            "ORDER BY e.startTime ASC")
+    List<CalendarEvent> findSeriesOverlapping(@Param("userId") String userId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+
+    // Overrides replacing single occurrences of a series
+    Optional<CalendarEvent> findBySeriesIdAndOriginalStartTime(String seriesId, LocalDateTime originalStartTime);
+
+    void deleteBySeriesId(String seriesId);
+
+    // Time spans of single events overlapping [from, to), streamed from a cursor. All-day events are ordered
+    // by the midnight they expand to so callers can merge in a single pass. Needs an open transaction.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = "SELECT e.start_time AS \"startTime\", e.end_time AS \"endTime\", e.is_all_day AS \"allDay\" " +
+            "FROM calendar_events e WHERE e.user_id = :userId AND e.recurrence_rule IS NULL " +
+            "AND e.during && tsrange(CAST(:from AS timestamp), CAST(:to AS timestamp), '[)') " +
+            "ORDER BY CASE WHEN e.is_all_day THEN date_trunc('day', e.start_time) ELSE e.start_time END",
+            nativeQuery = true)
+    Stream<TimeSpan> streamTimeSpansByUser(@Param("userId") String userId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
 
-    @Query("SELECT e FROM CalendarEvent e WHERE e.user = :user AND e.startTime >= :startDate ORDER BY e.startTime ASC")
-    List<CalendarEvent> findByUserAndStartDateAfter(@Param("user") User user, @Param("startDate") LocalDateTime startDate);
+    // Single events in progress at the given instant
+    @Query(value = "SELECT * FROM calendar_events e WHERE e.user_id = :userId AND e.recurrence_rule IS NULL " +
+            "AND e.during @> CAST(:at AS timestamp) ORDER BY e.start_time ASC",
+            nativeQuery = true)
+    List<CalendarEvent> findCurrentEventsByUser(@Param("userId") String userId, @Param("at") LocalDateTime at);
 
-    @Query("SELECT e FROM CalendarEvent e WHERE e.user = :user AND e.startTime <= :endDate ORDER BY e.startTime ASC")
-    List<CalendarEvent> findByUserAndEndDateBefore(@Param("user") User user, @Param("endDate") LocalDateTime endDate);
+    // Single events starting in [from, to). A plain range on start_time is served by idx_event_user_start_time;
+    // wrapping the column in DATE() would force a scan of all the user's events.
+    @Query(value = "SELECT * FROM calendar_events e WHERE e.user_id = :userId AND e.recurrence_rule IS NULL " +
+            "AND e.start_time >= :from AND e.start_time < :to ORDER BY e.start_time ASC",
+            nativeQuery = true)
+    List<CalendarEvent> findByUserAndStartTimeBetween(@Param("userId") String userId,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
 
-    // Today's events using native query with user context
-    @Query(value = "SELECT * FROM calendar_events e WHERE e.user_id = :userId AND DATE(e.start_time) = :today ORDER BY e.start_time ASC",
+    @Query(value = "SELECT COUNT(*) FROM calendar_events e WHERE e.user_id = :userId AND e.recurrence_rule IS NULL " +
+            "AND e.start_time >= :from AND e.start_time < :to",
             nativeQuery = true)
-    List<CalendarEvent> findTodaysEventsByUser(@Param("userId") String userId, @Param("today") LocalDate today);
+    long countByUserAndStartTimeBetween(@Param("userId") String userId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
 
-    // Find upcoming events with user context
-    @Query("SELECT e FROM CalendarEvent e WHERE e.user = :user AND e.startTime > :now AND e.startTime <= :futureDate ORDER BY e.startTime ASC")
+    // Today's events with user context
+    default List<CalendarEvent> findTodaysEventsByUser(String userId, LocalDate today) {
+        return findByUserAndDate(userId, today);
+    }
+
+    // Find upcoming single events with user context
+    @Query("SELECT e FROM CalendarEvent e WHERE e.user = :user AND e.recurrenceRule IS NULL AND e.startTime > :now AND e.startTime <= :futureDate ORDER BY e.startTime ASC")
     List<CalendarEvent> findUpcomingEventsByUser(@Param("user") User user, @Param("now") LocalDateTime now, @Param("futureDate") LocalDateTime futureDate);
 
-    // Find overdue events with user context
-    @Query("SELECT e FROM CalendarEvent e WHERE e.user = :user AND e.endTime < :now")
+    // Find overdue events with user context; a series is overdue once its last occurrence has ended
+    @Query("SELECT e FROM CalendarEvent e WHERE e.user = :user AND " +
+            "(e.recurrenceRule IS NULL AND e.endTime < :now OR e.recurrenceEnd < :now)")
     List<CalendarEvent> findOverdueEventsByUser(@Param("user") User user, @Param("now") LocalDateTime now);
 
     // Count by category with user context
@@ -72,34 +159,79 @@ public interface CalendarEventRepository extends JpaRepository<CalendarEvent, St
     // Count all events for user
     long countByUser(User user);
 
-    // Count today's events using native query with user context
-    @Query(value = "SELECT COUNT(*) FROM calendar_events e WHERE e.user_id = :userId AND DATE(e.start_time) = :today",
-            nativeQuery = true)
-    long countTodaysEventsByUser(@Param("userId") String userId, @Param("today") LocalDate today);
+    // Count today's events with user context
+    default long countTodaysEventsByUser(String userId, LocalDate today) {
+        return countByUserAndStartTimeBetween(userId, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+    }
 
     // Count overdue events with user context
-    @Query("SELECT COUNT(e) FROM CalendarEvent e WHERE e.user = :user AND e.endTime < :now")
+    @Query("SELECT COUNT(e) FROM CalendarEvent e WHERE e.user = :user AND " +
+            "(e.recurrenceRule IS NULL AND e.endTime < :now OR e.recurrenceEnd < :now)")
     long countOverdueEventsByUser(@Param("user") User user, @Param("now") LocalDateTime now);
 
-    // Count upcoming events with user context
-    @Query("SELECT COUNT(e) FROM CalendarEvent e WHERE e.user = :user AND e.startTime > :now AND e.startTime <= :futureDate")
+    // Count upcoming single events with user context
+    @Query("SELECT COUNT(e) FROM CalendarEvent e WHERE e.user = :user AND e.recurrenceRule IS NULL AND e.startTime > :now AND e.startTime <= :futureDate")
     long countUpcomingEventsByUser(@Param("user") User user, @Param("now") LocalDateTime now, @Param("futureDate") LocalDateTime futureDate);
 
-    // Find events by specific date with user context using native query
-    @Query(value = "SELECT * FROM calendar_events e WHERE e.user_id = :userId AND DATE(e.start_time) = :date ORDER BY e.start_time ASC",
-            nativeQuery = true)
-    List<CalendarEvent> findByUserAndDate(@Param("userId") String userId, @Param("date") LocalDate date);
+    // Find events by specific date with user context
+    default List<CalendarEvent> findByUserAndDate(String userId, LocalDate date) {
+        return findByUserAndStartTimeBetween(userId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
 
-    // Check for conflicting events with user context
-    @Query("SELECT e FROM CalendarEvent e WHERE e.user = :user AND " +
-            "(:eventId IS NULL OR e.id != :eventId) AND " +
-            "((e.startTime <= :startTime AND e.endTime > :startTime) OR " +
-            "(e.startTime < :endTime AND e.endTime >= :endTime) OR " +
-            "(e.startTime >= :startTime AND e.endTime <= :endTime))")
+    // Check for conflicting single events with user context, optionally ignoring the event being edited
+    @Query(value = "SELECT * FROM calendar_events e WHERE e.user_id = :userId AND e.recurrence_rule IS NULL " +
+            "AND (CAST(:eventId AS varchar) IS NULL OR e.id <> CAST(:eventId AS varchar)) " +
+            "AND e.during && tsrange(CAST(:startTime AS timestamp), CAST(:endTime AS timestamp), '[)') " +
+            "ORDER BY e.start_time ASC",
+            nativeQuery = true)
     List<CalendarEvent> findConflictingEventsByUser(
-            @Param("user") User user,
+            @Param("userId") String userId,
             @Param("eventId") String eventId,
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime
     );
+
+    interface TimeSpan {
+        LocalDateTime getStartTime();
+
+        LocalDateTime getEndTime();
+
+        Boolean getAllDay();
+    }
+
+    interface IcsRow {
+        String getId();
+
+        String getUid();
+
+        String getTitle();
+
+        String getDescription();
+
+        String getLocation();
+
+        LocalDateTime getStartTime();
+
+        LocalDateTime getEndTime();
+
+        Boolean getAllDay();
+
+        String getCategory();
+
+        String getPriority();
+
+        String getColor();
+
+        String getRecurrenceRule();
+
+        LocalDateTime getOriginalStartTime();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        String getAttendees();
+
+        String getExcludedStarts();
+    }
 }
\ No newline at end of file
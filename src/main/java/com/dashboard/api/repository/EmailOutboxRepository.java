@@ -0,0 +1,34 @@
+// src/main/java/com/dashboard/api/repository/EmailOutboxRepository.java
+package com.dashboard.api.repository;
+
+import com.dashboard.api.entity.EmailOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, String> {
+
+    // Locks the due rows so concurrent dispatchers (other replicas) skip them instead of double sending
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at ASC LIMIT :batchSize FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<EmailOutboxMessage> lockDueMessages(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = com.dashboard.api.enums.EmailOutboxStatus.SENT AND m.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // A dead message is last written when it gives up, so updatedAt is when it died
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = com.dashboard.api.enums.EmailOutboxStatus.DEAD AND m.updatedAt < :cutoff")
+    int deleteDeadBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -21,13 +21,14 @@ public interface OtpRepository extends JpaRepository<Otp, String> {
 
     @Modifying
     @Transactional
-    @Query("UPDATE Otp o SET o.used = true WHERE o.email = :email AND o.otpCode = :otpCode")
-    void markAsUsed(@Param("email") String email, @Param("otpCode") String otpCode);
+    // Conditional, so of two concurrent consumers of the same code only one updates the row
+    @Query("UPDATE Otp o SET o.used = true WHERE o.email = :email AND o.otpCode = :otpCode AND o.used = false")
+    int markAsUsed(@Param("email") String email, @Param("otpCode") String otpCode);
 
     @Modifying
     @Transactional
     @Query("DELETE FROM Otp o WHERE o.expiresAt < :now")
-    void deleteExpiredOtps(@Param("now") LocalDateTime now);
+    int deleteExpiredOtps(@Param("now") LocalDateTime now);
 
     @Modifying
     @Transactional
@@ -3,7 +3,9 @@ package com.dashboard.api.repository;
 
 import com.dashboard.api.entity.RefreshToken;
 import com.dashboard.api.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,7 +19,22 @@ import java.util.Optional;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    // Locks the row so concurrent refreshes of the same token rotate it only once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdate(@Param("tokenHash") byte[] tokenHash);
+
+    // Least recently used first; locked so concurrent logins of one user respect the session cap
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.user = :user AND rt.revoked = false AND rt.expiresAt > :now " +
+            "ORDER BY COALESCE(rt.lastUsedAt, rt.createdAt) ASC")
+    List<RefreshToken> findActiveSessionsForUpdate(@Param("user") User user, @Param("now") LocalDateTime now);
+
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.user = :user AND rt.revoked = false AND rt.expiresAt > :now " +
+            "ORDER BY COALESCE(rt.lastUsedAt, rt.createdAt) DESC")
+    List<RefreshToken> findActiveSessions(@Param("user") User user, @Param("now") LocalDateTime now);
 
     List<RefreshToken> findByUser(User user);
 
@@ -33,8 +50,19 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Stri
     @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
     void deleteExpiredTokens(@Param("now") LocalDateTime now);
 
+    // Deletes at most chunkSize dead tokens so each statement keeps its locks and WAL volume small.
+    // Each side of the OR has its own index (expires_at, and the partial idx_refresh_token_revoked).
     @Modifying
     @Transactional
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.token = :token")
-    void revokeToken(@Param("token") String token);
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN (" +
+            "SELECT id FROM refresh_tokens WHERE expires_at < :now OR is_revoked = true LIMIT :chunkSize)",
+            nativeQuery = true)
+    int deleteExpiredOrRevokedChunk(@Param("now") LocalDateTime now, @Param("chunkSize") int chunkSize);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.tokenHash = :tokenHash")
+    void revokeByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    Optional<RefreshToken> findByUserAndSelectorAndRevokedFalse(User user, String selector);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+// src/main/java/com/dashboard/api/repository/RetiredRefreshTokenRepository.java
+package com.dashboard.api.repository;
+
+import com.dashboard.api.entity.RetiredRefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RetiredRefreshTokenRepository extends JpaRepository<RetiredRefreshToken, String> {
+
+    Optional<RetiredRefreshToken> findByTokenHash(byte[] tokenHash);
+
+    // Chunked like RefreshTokenRepository.deleteExpiredOrRevokedChunk
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM retired_refresh_tokens WHERE id IN (" +
+            "SELECT id FROM retired_refresh_tokens WHERE expires_at < :now LIMIT :chunkSize)",
+            nativeQuery = true)
+    int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("chunkSize") int chunkSize);
+}
@@ -0,0 +1,56 @@
+// src/main/java/com/dashboard/api/repository/ScheduledJobLeaseRepository.java
+package com.dashboard.api.repository;
+
+import com.dashboard.api.entity.ScheduledJobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// All times come from the database clock so instances with skewed clocks agree on lease expiry
+@Repository
+public interface ScheduledJobLeaseRepository extends JpaRepository<ScheduledJobLease, String> {
+
+    // Atomically takes the lease when it is free and the job has not started within minGapSeconds.
+    // Returns 1 when this owner got the lease, 0 when another instance holds it or ran the job recently.
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO scheduled_job_leases (job_name, lease_owner, lease_until, last_started_at) " +
+            "VALUES (:jobName, :owner, LOCALTIMESTAMP + make_interval(secs => :leaseSeconds), LOCALTIMESTAMP) " +
+            "ON CONFLICT (job_name) DO UPDATE SET lease_owner = EXCLUDED.lease_owner, " +
+            "lease_until = EXCLUDED.lease_until, last_started_at = EXCLUDED.last_started_at " +
+            "WHERE scheduled_job_leases.lease_until < LOCALTIMESTAMP " +
+            "AND (scheduled_job_leases.last_started_at IS NULL " +
+            "OR scheduled_job_leases.last_started_at <= LOCALTIMESTAMP - make_interval(secs => :minGapSeconds))",
+            nativeQuery = true)
+    int tryAcquire(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("leaseSeconds") double leaseSeconds,
+                   @Param("minGapSeconds") double minGapSeconds);
+
+    // Heartbeat between chunks; returns 0 if the lease was lost
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE scheduled_job_leases SET lease_until = LOCALTIMESTAMP + make_interval(secs => :leaseSeconds), " +
+            "resume_cursor = :cursor WHERE job_name = :jobName AND lease_owner = :owner",
+            nativeQuery = true)
+    int extendLease(@Param("jobName") String jobName,
+                    @Param("owner") String owner,
+                    @Param("leaseSeconds") double leaseSeconds,
+                    @Param("cursor") String cursor);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE scheduled_job_leases SET lease_until = LOCALTIMESTAMP, last_finished_at = LOCALTIMESTAMP, " +
+            "last_duration_ms = :durationMs, last_outcome = :outcome, last_error = :error, resume_cursor = :cursor " +
+            "WHERE job_name = :jobName AND lease_owner = :owner",
+            nativeQuery = true)
+    int release(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("durationMs") long durationMs,
+                @Param("outcome") String outcome,
+                @Param("error") String error,
+                @Param("cursor") String cursor);
+}
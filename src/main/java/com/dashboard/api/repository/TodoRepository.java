@@ -52,6 +52,19 @@ public interface TodoRepository extends JpaRepository<Todo, String> {
     // Count all todos for a user
     long countByUser(User user);
 
+    // One agenda page of todos due in [afterDate, to), in (due_date, id) order; afterId works as in
+    // CalendarEventRepository.findAgendaPageByUser. Served by idx_todo_user_due_date.
+    @Query(value = "SELECT * FROM todos t WHERE t.user_id = :userId " +
+            "AND t.due_date >= :afterDate AND t.due_date < :to " +
+            "AND (t.due_date > :afterDate OR t.id COLLATE \"C\" > CAST(:afterId AS varchar)) " +
+            "ORDER BY t.due_date, t.id COLLATE \"C\" LIMIT :limit",
+            nativeQuery = true)
+    List<Todo> findAgendaPageByUser(@Param("userId") String userId,
+                                    @Param("afterDate") LocalDate afterDate,
+                                    @Param("afterId") String afterId,
+                                    @Param("to") LocalDate to,
+                                    @Param("limit") int limit);
+
     // Advanced filtering query with user context
     @Query("SELECT t FROM Todo t WHERE t.user = :user AND " +
             "(:category IS NULL OR t.category = :category) AND " +
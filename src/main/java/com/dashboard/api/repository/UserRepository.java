@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,10 +18,30 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     Optional<User> findByUsername(String username);
 
+    // Only accounts that opted in to sharing free/busy time
+    List<User> findByEmailInAndShareFreeBusyTrue(Collection<String> emails);
+
     boolean existsByEmail(String email);
 
     boolean existsByUsername(String username);
 
     @Query("SELECT u FROM User u WHERE u.email = :emailOrUsername OR u.username = :emailOrUsername")
     Optional<User> findByEmailOrUsername(@Param("emailOrUsername") String emailOrUsername);
+
+    // Serializes username allocation for one base name until the surrounding transaction ends
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext(:base))) AS username_lock", nativeQuery = true)
+    Integer lockUsernameBase(@Param("base") String base);
+
+    // -1 when base itself is free, otherwise the highest numeric suffix in use (0 if only base exists).
+    // The prefix LIKE is served by idx_users_username_pattern (text_pattern_ops).
+    @Query(value = "SELECT CASE WHEN bool_or(u.username = :base) THEN " +
+            "COALESCE(MAX(CASE WHEN u.username <> :base THEN CAST(SUBSTRING(u.username FROM :suffixStart) AS bigint) END), 0) " +
+            "ELSE -1 END " +
+            "FROM users u WHERE u.username LIKE :prefixPattern ESCAPE '\\' " +
+            "AND (u.username = :base OR SUBSTRING(u.username FROM :suffixStart) ~ '^[0-9]+$' " +
+            "AND char_length(u.username) - :suffixStart < 18)",
+            nativeQuery = true)
+    Long findHighestUsernameSuffix(@Param("base") String base,
+                                   @Param("prefixPattern") String prefixPattern,
+                                   @Param("suffixStart") int suffixStart);
 }
\ No newline at end of file
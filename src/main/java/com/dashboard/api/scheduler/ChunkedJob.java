@@ -0,0 +1,14 @@
+// src/main/java/com/dashboard/api/scheduler/ChunkedJob.java
+package com.dashboard.api.scheduler;
+
+// A maintenance job that works through its data one bounded chunk at a time
+@FunctionalInterface
+public interface ChunkedJob {
+
+    // cursor is where the previous chunk (possibly from an earlier, interrupted run) stopped,
+    // or null when starting from the beginning
+    Chunk processChunk(String cursor);
+
+    record Chunk(int processed, String nextCursor, boolean hasMore) {
+    }
+}
@@ -0,0 +1,149 @@
+// src/main/java/com/dashboard/api/scheduler/ClusterJobRunner.java
+package com.dashboard.api.scheduler;
+
+import com.dashboard.api.entity.ScheduledJobLease;
+import com.dashboard.api.enums.JobOutcome;
+import com.dashboard.api.repository.ScheduledJobLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Runs @Scheduled maintenance work once per cluster instead of once per instance. Every instance's
+// trigger fires, but only the one that takes the job's lease row runs it; the others skip.
+//
+// minGap stops a second instance whose trigger fires a little later (clock skew, slow startup)
+// from running the job again right after the first one finished.
+@Component
+@Slf4j
+public class ClusterJobRunner {
+
+    private final ScheduledJobLeaseRepository leaseRepository;
+    private final MeterRegistry meterRegistry;
+    private final String owner;
+
+    public ClusterJobRunner(ScheduledJobLeaseRepository leaseRepository, MeterRegistry meterRegistry) {
+        this.leaseRepository = leaseRepository;
+        this.meterRegistry = meterRegistry;
+        this.owner = hostName() + "/" + UUID.randomUUID();
+    }
+
+    // Returns false when another instance holds the lease or ran the job within minGap
+    public boolean run(String jobName, Duration lease, Duration minGap, Runnable job) {
+        if (!acquire(jobName, lease, minGap)) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            job.run();
+            finish(jobName, start, JobOutcome.SUCCESS, null, null);
+            return true;
+        } catch (RuntimeException e) {
+            finish(jobName, start, JobOutcome.FAILED, e.getMessage(), null);
+            throw e;
+        }
+    }
+
+    // Processes up to maxChunks chunks, renewing the lease and saving the cursor after each one.
+    // A run that stops early (chunk limit, failure, crash) resumes from the saved cursor next time.
+    // Returns the number of items processed, or -1 when the job did not run on this instance.
+    public int runChunked(String jobName, Duration lease, Duration minGap,
+                          int maxChunks, long pauseMs, ChunkedJob job) {
+        if (!acquire(jobName, lease, minGap)) {
+            return -1;
+        }
+
+        long start = System.nanoTime();
+        String cursor = leaseRepository.findById(jobName)
+                .map(ScheduledJobLease::getResumeCursor)
+                .orElse(null);
+        int processed = 0;
+        try {
+            for (int i = 0; i < maxChunks; i++) {
+                ChunkedJob.Chunk chunk = job.processChunk(cursor);
+                processed += chunk.processed();
+                cursor = chunk.nextCursor();
+
+                if (!chunk.hasMore()) {
+                    finish(jobName, start, JobOutcome.SUCCESS, null, null);
+                    return processed;
+                }
+                if (leaseRepository.extendLease(jobName, owner, lease.toMillis() / 1000.0, cursor) == 0) {
+                    log.warn("Lost lease for job {} after {} items; stopping", jobName, processed);
+                    return processed;
+                }
+                if (!pause(pauseMs)) {
+                    break;
+                }
+            }
+            finish(jobName, start, JobOutcome.PARTIAL, null, cursor);
+            return processed;
+        } catch (RuntimeException e) {
+            finish(jobName, start, JobOutcome.FAILED, e.getMessage(), cursor);
+            throw e;
+        }
+    }
+
+    private boolean acquire(String jobName, Duration lease, Duration minGap) {
+        boolean acquired = leaseRepository.tryAcquire(jobName, owner,
+                lease.toMillis() / 1000.0, minGap.toMillis() / 1000.0) > 0;
+        if (!acquired) {
+            log.debug("Skipping job {}: running or recently run on another instance", jobName);
+            Counter.builder("scheduled_jobs.skipped")
+                    .tag("job", jobName)
+                    .description("Job triggers skipped because another instance holds the lease")
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return acquired;
+    }
+
+    private void finish(String jobName, long startNanos, JobOutcome outcome, String error, String cursor) {
+        long durationNanos = System.nanoTime() - startNanos;
+        Timer.builder("scheduled_jobs.duration")
+                .tag("job", jobName)
+                .tag("outcome", outcome.name())
+                .description("Duration of scheduled job runs")
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        if (error != null && error.length() > 1000) {
+            error = error.substring(0, 1000);
+        }
+        try {
+            leaseRepository.release(jobName, owner, TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                    outcome.name(), error, cursor);
+        } catch (RuntimeException e) {
+            // The lease simply expires; the next trigger after that takes over
+            log.error("Could not release lease for job {}", jobName, e);
+        }
+    }
+
+    private static boolean pause(long pauseMs) {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+}
@@ -0,0 +1,49 @@
+// src/main/java/com/dashboard/api/scheduler/EmailOutboxScheduler.java
+package com.dashboard.api.scheduler;
+
+import com.dashboard.api.service.EmailOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxScheduler {
+
+    private final EmailOutboxService emailOutboxService;
+    private final ClusterJobRunner jobRunner;
+
+    @Value("${app.email.outbox.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    // Keep draining until nothing is due, then wait for the next poll. A backlog is worked off a
+    // few batches per tick so the scheduler thread goes back to the other jobs in between.
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-ms:2000}")
+    public void dispatchQueuedEmails() {
+        try {
+            int batches = 0;
+            int dispatched;
+            do {
+                dispatched = emailOutboxService.dispatchDueMessages();
+            } while (dispatched > 0 && ++batches < maxBatchesPerPoll && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            log.error("Error dispatching queued emails", e);
+        }
+    }
+
+    // Run every hour on one instance, offset from the OTP cleanup
+    @Scheduled(cron = "0 30 * * * *")
+    public void purgeFinishedEmails() {
+        try {
+            jobRunner.run("email-outbox-purge", Duration.ofMinutes(10), Duration.ofMinutes(30),
+                    emailOutboxService::purgeFinishedMessages);
+        } catch (Exception e) {
+            log.error("Error purging finished emails", e);
+        }
+    }
+}
@@ -7,22 +7,26 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class OtpCleanupScheduler {
 
     private final PasswordService passwordService;
+    private final ClusterJobRunner jobRunner;
 
-    // Run every hour
+    // Run every hour, on one instance only
     @Scheduled(cron = "0 0 * * * *")
     public void cleanupExpiredOtps() {
-        log.info("Running scheduled OTP cleanup task");
         try {
-            passwordService.cleanupExpiredOtps();
-            log.info("Expired OTPs cleaned up successfully");
+            if (jobRunner.run("otp-cleanup", Duration.ofMinutes(10), Duration.ofMinutes(30),
+                    passwordService::cleanupExpiredOtps)) {
+                log.info("Expired OTPs cleaned up successfully");
+            }
         } catch (Exception e) {
             log.error("Error cleaning up expired OTPs", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+// src/main/java/com/dashboard/api/scheduler/RefreshTokenReaperScheduler.java
+package com.dashboard.api.scheduler;
+
+import com.dashboard.api.service.RefreshTokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Slf4j
+public class RefreshTokenReaperScheduler {
+
+    private final RefreshTokenService refreshTokenService;
+    private final ClusterJobRunner jobRunner;
+    private final Counter reclaimedRows;
+
+    @Value("${app.refresh-token.reaper.interval-ms:3600000}")
+    private long intervalMs;
+
+    @Value("${app.refresh-token.reaper.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.refresh-token.reaper.max-chunks:100}")
+    private int maxChunks;
+
+    @Value("${app.refresh-token.reaper.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    public RefreshTokenReaperScheduler(RefreshTokenService refreshTokenService,
+                                       ClusterJobRunner jobRunner,
+                                       MeterRegistry meterRegistry) {
+        this.refreshTokenService = refreshTokenService;
+        this.jobRunner = jobRunner;
+        this.reclaimedRows = Counter.builder("refresh_tokens.reaper.reclaimed")
+                .description("Expired, revoked or retired refresh tokens deleted by the reaper")
+                .register(meterRegistry);
+    }
+
+    // Each chunk deletes whatever is dead right now, so no cursor is needed to resume
+    @Scheduled(fixedDelayString = "${app.refresh-token.reaper.interval-ms:3600000}", initialDelay = 60000)
+    public void reapRefreshTokens() {
+        try {
+            int deleted = jobRunner.runChunked("refresh-token-reaper", Duration.ofMinutes(5),
+                    Duration.ofMillis(intervalMs / 2), maxChunks, chunkPauseMs,
+                    cursor -> {
+                        int chunk = refreshTokenService.deleteExpiredTokenChunk(chunkSize);
+                        reclaimedRows.increment(chunk);
+                        return new ChunkedJob.Chunk(chunk, null, chunk >= chunkSize);
+                    });
+            if (deleted >= 0) {
+                log.info("Deleted {} expired, revoked or retired refresh tokens", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Error cleaning up refresh tokens", e);
+        }
+    }
+}
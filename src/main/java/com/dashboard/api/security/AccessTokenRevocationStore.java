@@ -0,0 +1,14 @@
+// src/main/java/com/dashboard/api/security/AccessTokenRevocationStore.java
+package com.dashboard.api.security;
+
+import java.time.Instant;
+
+// Deny-list of access token ids (jti) that were revoked before they expired.
+// Checked on every authenticated request, so implementations must not hit the database.
+public interface AccessTokenRevocationStore {
+
+    // expiresAt is when the token would have expired anyway; the entry may be forgotten after that
+    void revoke(String tokenId, Instant expiresAt);
+
+    boolean isRevoked(String tokenId);
+}
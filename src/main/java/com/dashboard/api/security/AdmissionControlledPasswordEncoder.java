@@ -0,0 +1,166 @@
+// src/main/java/com/dashboard/api/security/AdmissionControlledPasswordEncoder.java
+package com.dashboard.api.security;
+
+import com.dashboard.api.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// BCrypt is deliberately CPU heavy. Running it on request threads lets a login burst or a
+// credential-stuffing wave occupy every core, so all hashing goes through a small dedicated pool
+// instead. When its queue is full the request is shed with a 503 rather than queued without bound.
+//
+// The work factor is calibrated at startup to the slowest cost that stays within the target
+// latency on this hardware, unless app.password-hashing.bcrypt-strength pins it.
+@Component
+@Slf4j
+public class AdmissionControlledPasswordEncoder implements PasswordEncoder {
+
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMs;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejections;
+
+    public AdmissionControlledPasswordEncoder(
+            @Value("${app.password-hashing.bcrypt-strength:0}") int configuredStrength,
+            @Value("${app.password-hashing.target-ms:250}") long targetMs,
+            @Value("${app.password-hashing.threads:0}") int threads,
+            @Value("${app.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.password-hashing.wait-timeout-ms:5000}") long waitTimeoutMs,
+            @Value("${app.password-hashing.retry-after-seconds:2}") long retryAfterSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        int strength = configuredStrength > 0 ? configuredStrength : calibrateStrength(targetMs);
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        // Leave at least half the cores for regular API traffic
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .description("Time to hash a password, including queueing")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("auth.password.verify")
+                .description("Time to verify a password, including queueing")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.password.rejections")
+                .description("Password hashing requests shed because the pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+
+        log.info("Password hashing uses BCrypt strength {} on {} thread(s), queue capacity {}",
+                strength, poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> submit(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return Boolean.TRUE.equals(matchTimer.record(() -> submit(() -> delegate.matches(rawPassword, encodedPassword))));
+    }
+
+    // True for hashes made with a lower cost than the current one; DaoAuthenticationProvider then
+    // re-hashes the password after a successful login
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw overloaded();
+        }
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Too many sign-in requests, please retry shortly", retryAfterSeconds);
+    }
+
+    // Each step doubles the cost, so this finishes in roughly twice the target time
+    private static int calibrateStrength(long targetMs) {
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH) {
+            long elapsedMs = timeHash(strength + 1);
+            if (elapsedMs > targetMs) {
+                break;
+            }
+            strength++;
+        }
+        return strength;
+    }
+
+    private static long timeHash(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
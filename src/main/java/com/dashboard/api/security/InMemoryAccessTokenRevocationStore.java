@@ -0,0 +1,85 @@
+// src/main/java/com/dashboard/api/security/InMemoryAccessTokenRevocationStore.java
+package com.dashboard.api.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-instance deny-list. Nearly every request carries a token that was never revoked, and the
+// bloom filter answers those without touching the map. Only probable hits are confirmed against
+// the exact map, which also records when each entry may be dropped.
+//
+// Bloom filters cannot delete, so two generations are kept: ids go into the current one, and every
+// access-token TTL the current becomes the previous and the old previous is discarded. An id
+// therefore stays in a generation for at least one TTL, which outlives the token itself.
+@Component
+@Slf4j
+public class InMemoryAccessTokenRevocationStore implements AccessTokenRevocationStore {
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final long generationMs;
+
+    private volatile RevokedTokenBloomFilter current;
+    private volatile RevokedTokenBloomFilter previous;
+    private volatile long currentStartedAt;
+
+    public InMemoryAccessTokenRevocationStore(
+            @Value("${app.jwt.revocation.expected-entries:100000}") int expectedEntries,
+            @Value("${app.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${app.jwt.access-token-expiration:900000}") long accessTokenExpirationMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.generationMs = accessTokenExpirationMs;
+        this.current = new RevokedTokenBloomFilter(expectedEntries, falsePositiveRate);
+        this.previous = new RevokedTokenBloomFilter(expectedEntries, falsePositiveRate);
+        this.currentStartedAt = System.currentTimeMillis();
+
+        Gauge.builder("jwt.revocations.active", revoked, Map::size)
+                .description("Revoked access tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revoked.put(tokenId, expiresAt.toEpochMilli());
+        current.add(tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        if (!current.mightContain(tokenId) && !previous.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        if (now - currentStartedAt >= generationMs) {
+            previous = current;
+            current = new RevokedTokenBloomFilter(expectedEntries, falsePositiveRate);
+            currentStartedAt = now;
+            log.debug("Rotated access token deny-list generation ({} entries active)", revoked.size());
+        }
+    }
+}
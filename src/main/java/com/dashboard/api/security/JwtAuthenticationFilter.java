@@ -2,6 +2,7 @@
 package com.dashboard.api.security;
 
 import com.dashboard.api.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserService userService;
+    private final AccessTokenRevocationStore revocationStore;
 
     @Override
     protected void doFilterInternal(
@@ -43,12 +45,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        userEmail = jwtUtils.extractUsername(jwt);
+        // Parsed once; every check below reads from these claims
+        final Claims claims = jwtUtils.parseClaims(jwt);
+        userEmail = claims.getSubject();
+
+        // Revoked by logout, logout-all or an email change before it expired
+        if (revocationStore.isRevoked(claims.getId())) {
+            log.debug("Rejected revoked access token for: {}", userEmail);
+            filterChain.doFilter(request, response);
+            return;
+        }
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = this.userService.loadUserByUsername(userEmail);
 
-            if (jwtUtils.validateToken(jwt, userDetails)) {
+            if (jwtUtils.validateClaims(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -4,21 +4,34 @@ package com.dashboard.api.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtUtils {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${app.jwt.secret:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}")
     private String jwtSecret;
 
@@ -28,10 +41,53 @@ public class JwtUtils {
     @Value("${app.jwt.refresh-token-expiration:604800000}") // 7 days
     private long refreshTokenExpirationMs;
 
+    @Value("${app.jwt.claims-cache.max-entries:10000}")
+    private int claimsCacheMaxEntries;
+
+    // A client sends the same access token on every request until it expires. Tokens whose
+    // signature has already been checked are remembered with their claims, so repeat requests
+    // skip the parse and HMAC.
+    //
+    // Keyed by the token's signature segment. It is already an HMAC-SHA256 of the header and
+    // payload, so it serves as a collision-resistant hash of the token without computing one.
+    // Pairing a cached signature with another payload only returns the claims that signature was
+    // verified for, which the holder of the signature could present anyway.
+    //
+    // Lock free: lookups never block each other. When the cache outgrows its bound one inserting
+    // thread drops expired entries, then arbitrary ones, down to 90% of it. The minutely sweep
+    // frees tokens that expired meanwhile.
+    private final ConcurrentHashMap<String, VerifiedClaims> verifiedClaims = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    private Key signInKey;
+    private Counter cacheHits;
+    private Counter cacheMisses;
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+
+        cacheHits = Counter.builder("jwt.claims.cache")
+                .tag("result", "hit")
+                .description("Access token verifications answered from the verified-claims cache")
+                .register(meterRegistry);
+        cacheMisses = Counter.builder("jwt.claims.cache")
+                .tag("result", "miss")
+                .description("Access token verifications that parsed and checked the signature")
+                .register(meterRegistry);
+        Gauge.builder("jwt.claims.cache.size", verifiedClaims, Map::size)
+                .description("Verified access tokens currently cached")
+                .register(meterRegistry);
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
@@ -41,34 +97,90 @@ public class JwtUtils {
         return claimsResolver.apply(claims);
     }
 
+    // Verified claims of a token; throws for bad signatures and expired tokens. Callers needing
+    // several claims should read them from one call instead of one extract* call each.
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+
     private Claims extractAllClaims(String token) {
-        return Jwts
+        long now = System.currentTimeMillis();
+        String key = signatureOf(token);
+        VerifiedClaims cached = key != null ? verifiedClaims.get(key) : null;
+        if (cached != null) {
+            if (cached.expiresAtMs() > now) {
+                cacheHits.increment();
+                return cached.claims();
+            }
+            verifiedClaims.remove(key, cached);
+        }
+        cacheMisses.increment();
+
+        // Throws for bad signatures and expired tokens, exactly as before caching
+        Claims claims = Jwts
                 .parserBuilder()
                 .setSigningKey(getSignInKey())
                 .build()
                 .parseClaimsJws(token)
                 .getBody();
+
+        if (key != null && claims.getExpiration() != null) {
+            verifiedClaims.put(key, new VerifiedClaims(claims, claims.getExpiration().getTime()));
+            trimIfFull(now);
+        }
+        return claims;
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // Text after the last '.', or null when there is none and the parser will reject the token
+    private static String signatureOf(String token) {
+        int dot = token == null ? -1 : token.lastIndexOf('.');
+        return dot < 0 || dot == token.length() - 1 ? null : token.substring(dot + 1);
+    }
+
+    private void trimIfFull(long now) {
+        if (verifiedClaims.size() <= claimsCacheMaxEntries || !trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            verifiedClaims.values().removeIf(entry -> entry.expiresAtMs() <= now);
+            int excess = verifiedClaims.size() - claimsCacheMaxEntries * 9 / 10;
+            Iterator<VerifiedClaims> entries = verifiedClaims.values().iterator();
+            while (excess-- > 0 && entries.hasNext()) {
+                entries.next();
+                entries.remove();
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredClaims() {
+        long now = System.currentTimeMillis();
+        verifiedClaims.values().removeIf(entry -> entry.expiresAtMs() <= now);
     }
 
     public String generateAccessToken(UserDetails userDetails) {
+        return generateAccessToken(userDetails, UUID.randomUUID().toString());
+    }
+
+    // tokenId becomes the jti claim so the token can be revoked before it expires
+    public String generateAccessToken(UserDetails userDetails, String tokenId) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername(), accessTokenExpirationMs);
+        return createToken(claims, userDetails.getUsername(), accessTokenExpirationMs, tokenId);
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("type", "refresh");
-        return createToken(claims, userDetails.getUsername(), refreshTokenExpirationMs);
+        return createToken(claims, userDetails.getUsername(), refreshTokenExpirationMs, UUID.randomUUID().toString());
     }
 
-    private String createToken(Map<String, Object> claims, String subject, long expiration) {
+    private String createToken(Map<String, Object> claims, String subject, long expiration, String tokenId) {
         return Jwts
                 .builder()
                 .setClaims(claims)
+                .setId(tokenId)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
@@ -78,20 +190,21 @@ public class JwtUtils {
 
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            return validateClaims(extractAllClaims(token), userDetails);
         } catch (JwtException | IllegalArgumentException e) {
             log.error("JWT token validation error: {}", e.getMessage());
             return false;
         }
     }
 
+    // Same check as validateToken for claims the caller already has from parseClaims
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject()) && claims.getExpiration().after(new Date());
+    }
+
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSignInKey())
-                    .build()
-                    .parseClaimsJws(token);
+            extractAllClaims(token);
             return true;
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
@@ -106,8 +219,7 @@ public class JwtUtils {
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signInKey;
     }
 
     public long getAccessTokenExpirationMs() {
@@ -117,4 +229,7 @@ public class JwtUtils {
     public long getRefreshTokenExpirationMs() {
         return refreshTokenExpirationMs;
     }
+
+    private record VerifiedClaims(Claims claims, long expiresAtMs) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+// src/main/java/com/dashboard/api/service/AgendaService.java
+package com.dashboard.api.service;
+
+import com.dashboard.api.dto.response.AgendaPageResponse;
+
+import java.time.LocalDate;
+
+public interface AgendaService {
+
+    AgendaPageResponse getAgenda(LocalDate from, LocalDate to, int limit, String token);
+}
@@ -6,6 +6,9 @@ import com.dashboard.api.dto.request.RefreshTokenRequest;
 import com.dashboard.api.dto.request.RegisterRequest;
 import com.dashboard.api.dto.response.AuthResponse;
 import com.dashboard.api.dto.response.RefreshTokenResponse;
+import com.dashboard.api.dto.response.SessionResponse;
+
+import java.util.List;
 
 public interface AuthService {
 
@@ -18,4 +21,8 @@ public interface AuthService {
     void logout(String refreshToken);
 
     void logoutAll(); // Logout from all devices
+
+    List<SessionResponse> getActiveSessions();
+
+    boolean revokeSession(String sessionId);
 }
\ No newline at end of file
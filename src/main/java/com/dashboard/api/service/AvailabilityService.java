@@ -0,0 +1,12 @@
+// src/main/java/com/dashboard/api/service/AvailabilityService.java
+package com.dashboard.api.service;
+
+import com.dashboard.api.dto.request.FindSlotsRequest;
+import com.dashboard.api.dto.response.AvailableSlotResponse;
+
+import java.util.List;
+
+public interface AvailabilityService {
+
+    List<AvailableSlotResponse> findAvailableSlots(FindSlotsRequest request);
+}
@@ -2,11 +2,15 @@
 package com.dashboard.api.service;
 
 import com.dashboard.api.dto.EventFiltersDto;
+import com.dashboard.api.dto.request.BatchConflictRequest;
 import com.dashboard.api.dto.request.CreateEventRequest;
 import com.dashboard.api.dto.request.UpdateEventRequest;
 import com.dashboard.api.dto.response.EventResponse;
 import com.dashboard.api.dto.response.EventStatsResponse;
+import com.dashboard.api.dto.response.FreeBusyResponse;
+import com.dashboard.api.dto.response.SlotConflictsResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CalendarEventService {
@@ -23,11 +27,21 @@ public interface CalendarEventService {
 
     void deleteEvent(String id);
 
+    EventResponse updateOccurrence(String id, LocalDateTime originalStart, UpdateEventRequest request);
+
+    void cancelOccurrence(String id, LocalDateTime originalStart);
+
     EventStatsResponse getEventStats();
 
     List<EventResponse> getTodaysEvents();
 
     List<EventResponse> getUpcomingEvents(int days);
 
+    List<EventResponse> getCurrentEvents();
+
     List<EventResponse> getConflictingEvents(String eventId, CreateEventRequest request);
+
+    List<SlotConflictsResponse> getConflictingEvents(BatchConflictRequest request);
+
+    FreeBusyResponse getFreeBusy(LocalDateTime from, LocalDateTime to, int granularityMinutes);
 }
\ No newline at end of file
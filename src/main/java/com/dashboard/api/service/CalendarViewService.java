@@ -0,0 +1,12 @@
+// src/main/java/com/dashboard/api/service/CalendarViewService.java
+package com.dashboard.api.service;
+
+import com.dashboard.api.dto.response.CalendarViewResponse;
+import com.dashboard.api.enums.CalendarViewType;
+
+import java.time.LocalDate;
+
+public interface CalendarViewService {
+
+    CalendarViewResponse getView(CalendarViewType type, LocalDate anchor);
+}
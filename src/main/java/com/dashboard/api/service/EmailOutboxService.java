@@ -0,0 +1,12 @@
+// src/main/java/com/dashboard/api/service/EmailOutboxService.java
+package com.dashboard.api.service;
+
+public interface EmailOutboxService {
+
+    void enqueue(String recipient, String subject, String body);
+
+    int dispatchDueMessages();
+
+    // Deletes SENT and DEAD messages past their retention; returns how many were removed
+    int purgeFinishedMessages();
+}
@@ -0,0 +1,14 @@
+// src/main/java/com/dashboard/api/service/IcsService.java
+package com.dashboard.api.service;
+
+import com.dashboard.api.dto.response.IcsImportResponse;
+
+import java.io.InputStream;
+import java.io.Writer;
+
+public interface IcsService {
+
+    void exportEvents(Writer writer);
+
+    IcsImportResponse importEvents(InputStream ics);
+}
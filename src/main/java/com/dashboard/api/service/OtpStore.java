@@ -0,0 +1,20 @@
+// src/main/java/com/dashboard/api/service/OtpStore.java
+package com.dashboard.api.service;
+
+import java.time.Duration;
+
+// Holds the password-reset OTP of each email. Selected with app.otp.store:
+// jpa (default, otps table, shared by all instances) or memory (single instance only).
+public interface OtpStore {
+
+    // Replaces any OTP previously issued for this email
+    void save(String email, String otpCode, Duration ttl);
+
+    // Wrong codes count against the OTP; after too many it is discarded
+    boolean verify(String email, String otpCode);
+
+    // Verifies and invalidates the OTP in one step
+    boolean consume(String email, String otpCode);
+
+    int purgeExpired();
+}
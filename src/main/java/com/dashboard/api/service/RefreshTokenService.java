@@ -4,6 +4,7 @@ package com.dashboard.api.service;
 import com.dashboard.api.entity.RefreshToken;
 import com.dashboard.api.entity.User;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenService {
@@ -12,11 +13,20 @@ public interface RefreshTokenService {
 
     Optional<RefreshToken> findByToken(String token);
 
+    // Replaces the presented token with a new one for the same session
+    RefreshToken rotateRefreshToken(String token);
+
+    List<RefreshToken> getActiveSessions(User user);
+
+    boolean revokeSession(User user, String sessionId);
+
     RefreshToken verifyExpiration(RefreshToken token);
 
     void revokeToken(String token);
 
     void revokeAllUserTokens(User user);
 
-    void deleteExpiredTokens();
+    // Deletes up to chunkSize expired or revoked tokens, and as many expired retired tokens, each in
+    // its own transaction
+    int deleteExpiredTokenChunk(int chunkSize);
 }
\ No newline at end of file
@@ -7,9 +7,10 @@ import com.dashboard.api.dto.request.UpdateProfileRequest;
 import com.dashboard.api.dto.response.ProfileUpdateResponse;
 import com.dashboard.api.dto.response.UserResponse;
 import com.dashboard.api.entity.User;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
 
     UserResponse createUser(RegisterRequest request);
 
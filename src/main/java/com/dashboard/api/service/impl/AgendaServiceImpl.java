@@ -0,0 +1,265 @@
+// src/main/java/com/dashboard/api/service/impl/AgendaServiceImpl.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.dto.response.AgendaItemResponse;
+import com.dashboard.api.dto.response.AgendaPageResponse;
+import com.dashboard.api.entity.CalendarEvent;
+import com.dashboard.api.entity.Todo;
+import com.dashboard.api.entity.User;
+import com.dashboard.api.enums.AgendaItemType;
+import com.dashboard.api.exception.ValidationException;
+import com.dashboard.api.mapper.CalendarEventMapper;
+import com.dashboard.api.mapper.TodoMapper;
+import com.dashboard.api.repository.CalendarEventRepository;
+import com.dashboard.api.repository.TodoRepository;
+import com.dashboard.api.service.AgendaService;
+import com.dashboard.api.service.UserService;
+import com.dashboard.api.util.RecurrenceRule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+// Todos due and events starting in a date range as one sequence ordered by (time, type, id).
+// Each source is read with a keyset query along its (user, date) index that starts right after
+// the previous page and stops after limit + 1 rows; recurring series contribute lazy occurrence
+// iterators. A k-way merge over the sources takes the first `limit` items, so a page never reads
+// more than about limit rows per source however long the range is. The continuation token is the
+// key of the page's last item.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class AgendaServiceImpl implements AgendaService {
+
+    private static final int MAX_LIMIT = 500;
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder TOKEN_DECODER = Base64.getUrlDecoder();
+
+    private final CalendarEventRepository eventRepository;
+    private final TodoRepository todoRepository;
+    private final RecurrenceExpander recurrenceExpander;
+    private final CalendarEventMapper eventMapper;
+    private final TodoMapper todoMapper;
+    private final UserService userService;
+
+    @Override
+    public AgendaPageResponse getAgenda(LocalDate from, LocalDate to, int limit, String token) {
+        if (to.isBefore(from)) {
+            throw new ValidationException("'to' must not be before 'from'");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        User currentUser = userService.getCurrentUser();
+        String userId = currentUser.getId();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        // Everything after this key; the first page starts just before any item at `from`
+        AgendaKey start = new AgendaKey(from.atStartOfDay(), AgendaItemType.TODO, null);
+        AgendaKey after = token != null ? decodeToken(token) : start;
+        if (after.compareTo(start) < 0) {
+            after = start;
+        }
+        LocalDateTime afterTime = after.at();
+        log.debug("Reading agenda for user {} after {} until {}", userId, after, end);
+
+        PriorityQueue<Cursor<?>> heads = new PriorityQueue<>(Comparator.comparing(Cursor::key));
+        addIfNotEmpty(heads, todoCursor(userId, after, afterTime, to.plusDays(1), limit + 1));
+        addIfNotEmpty(heads, new Cursor<>(
+                eventRepository.findAgendaPageByUser(userId, afterTime, afterId(after, AgendaItemType.EVENT), end, limit + 1).iterator(),
+                event -> new AgendaKey(event.getStartTime(), AgendaItemType.EVENT, event.getId()),
+                this::eventItem));
+        for (CalendarEvent series : eventRepository.findSeriesOverlapping(userId, afterTime, end)) {
+            addIfNotEmpty(heads, new Cursor<>(
+                    new OccurrenceIterator(series, after, afterTime, end),
+                    occurrence -> new AgendaKey(occurrence.getStartTime(), AgendaItemType.EVENT, occurrence.getId()),
+                    this::eventItem));
+        }
+
+        List<AgendaItemResponse> items = new ArrayList<>(Math.min(limit, 64));
+        AgendaKey last = null;
+        while (items.size() < limit && !heads.isEmpty()) {
+            Cursor<?> head = heads.poll();
+            last = head.key();
+            items.add(head.item());
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+
+        // Each source read one row past the limit, so anything left means another page exists
+        String nextToken = items.size() == limit && !heads.isEmpty() ? encodeToken(last) : null;
+        return AgendaPageResponse.builder().items(items).nextToken(nextToken).build();
+    }
+
+    // Todos sort at midnight of their due date, so after a later time on that day only the next
+    // day's todos remain
+    private Cursor<Todo> todoCursor(String userId, AgendaKey after, LocalDateTime afterTime, LocalDate to, int limit) {
+        LocalDate afterDate = afterTime.toLocalDate();
+        String afterId = afterTime.toLocalTime().equals(LocalTime.MIDNIGHT) ? afterId(after, AgendaItemType.TODO) : null;
+        return new Cursor<>(
+                todoRepository.findAgendaPageByUser(userId, afterDate, afterId, to, limit).iterator(),
+                todo -> new AgendaKey(todo.getDueDate().atStartOfDay(), AgendaItemType.TODO, todo.getId()),
+                this::todoItem);
+    }
+
+    // Bound on ids at exactly the key's time: a source ordered before the key's type has nothing
+    // left there (null), one ordered after it has everything left ('')
+    private static String afterId(AgendaKey after, AgendaItemType type) {
+        int order = type.compareTo(after.type());
+        if (order == 0) {
+            return after.id() != null ? after.id() : "";
+        }
+        return order < 0 ? null : "";
+    }
+
+    private AgendaItemResponse eventItem(CalendarEvent event) {
+        return AgendaItemResponse.builder()
+                .type(AgendaItemType.EVENT)
+                .date(event.getStartTime().toLocalDate())
+                .at(event.getStartTime())
+                .event(eventMapper.toResponse(event))
+                .build();
+    }
+
+    private AgendaItemResponse todoItem(Todo todo) {
+        return AgendaItemResponse.builder()
+                .type(AgendaItemType.TODO)
+                .date(todo.getDueDate())
+                .at(todo.getDueDate().atStartOfDay())
+                .todo(todoMapper.toResponse(todo))
+                .build();
+    }
+
+    private static void addIfNotEmpty(PriorityQueue<Cursor<?>> heads, Cursor<?> cursor) {
+        if (cursor.advance()) {
+            heads.add(cursor);
+        }
+    }
+
+    private static String encodeToken(AgendaKey key) {
+        String raw = key.at() + "|" + key.type() + "|" + key.id();
+        return TOKEN_ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static AgendaKey decodeToken(String token) {
+        try {
+            String[] parts = new String(TOKEN_DECODER.decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3 || parts[2].isEmpty()) {
+                throw new ValidationException("Invalid continuation token");
+            }
+            return new AgendaKey(LocalDateTime.parse(parts[0]), AgendaItemType.valueOf(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid continuation token");
+        }
+    }
+
+    // Agenda order; a null id sorts before every id at the same time and type
+    private record AgendaKey(LocalDateTime at, AgendaItemType type, String id) implements Comparable<AgendaKey> {
+
+        private static final Comparator<AgendaKey> ORDER = Comparator
+                .comparing(AgendaKey::at)
+                .thenComparing(AgendaKey::type)
+                .thenComparing(AgendaKey::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        @Override
+        public int compareTo(AgendaKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    // One ordered source of the merge, positioned on its current head
+    private static final class Cursor<T> {
+
+        private final Iterator<T> rows;
+        private final Function<T, AgendaKey> keyOf;
+        private final Function<T, AgendaItemResponse> itemOf;
+        private T head;
+        private AgendaKey key;
+
+        private Cursor(Iterator<T> rows, Function<T, AgendaKey> keyOf, Function<T, AgendaItemResponse> itemOf) {
+            this.rows = rows;
+            this.keyOf = keyOf;
+            this.itemOf = itemOf;
+        }
+
+        private boolean advance() {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            head = rows.next();
+            key = keyOf.apply(head);
+            return true;
+        }
+
+        private AgendaKey key() {
+            return key;
+        }
+
+        private AgendaItemResponse item() {
+            return itemOf.apply(head);
+        }
+    }
+
+    // Occurrences of one series starting after the key and before `end`, generated on demand
+    private final class OccurrenceIterator implements Iterator<CalendarEvent> {
+
+        private final CalendarEvent series;
+        private final AgendaKey after;
+        private final LocalDateTime end;
+        private final Iterator<LocalDateTime> starts;
+        private LocalDateTime next;
+
+        private OccurrenceIterator(CalendarEvent series, AgendaKey after, LocalDateTime afterTime, LocalDateTime end) {
+            this.series = series;
+            this.after = after;
+            this.end = end;
+            this.starts = RecurrenceRule.parse(series.getRecurrenceRule()).startsFrom(series.getStartTime(), afterTime);
+            this.next = findNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public CalendarEvent next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            CalendarEvent occurrence = recurrenceExpander.occurrence(series, next);
+            next = findNext();
+            return occurrence;
+        }
+
+        private LocalDateTime findNext() {
+            while (starts.hasNext()) {
+                LocalDateTime start = starts.next();
+                if (!start.isBefore(end)) {
+                    return null;
+                }
+                if (!series.getExcludedStarts().contains(start)
+                        && new AgendaKey(start, AgendaItemType.EVENT, series.getId()).compareTo(after) > 0) {
+                    return start;
+                }
+            }
+            return null;
+        }
+    }
+}
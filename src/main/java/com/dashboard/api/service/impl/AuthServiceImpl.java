@@ -1,11 +1,13 @@
 // src/main/java/com/dashboard/api/service/impl/AuthServiceImpl.java
 package com.dashboard.api.service.impl;
 
+import com.dashboard.api.concurrency.AuthRateLimiter;
 import com.dashboard.api.dto.request.LoginRequest;
 import com.dashboard.api.dto.request.RefreshTokenRequest;
 import com.dashboard.api.dto.request.RegisterRequest;
 import com.dashboard.api.dto.response.AuthResponse;
 import com.dashboard.api.dto.response.RefreshTokenResponse;
+import com.dashboard.api.dto.response.SessionResponse;
 import com.dashboard.api.dto.response.UserResponse;
 import com.dashboard.api.entity.RefreshToken;
 import com.dashboard.api.entity.User;
@@ -16,6 +18,8 @@ import com.dashboard.api.security.JwtUtils;
 import com.dashboard.api.service.AuthService;
 import com.dashboard.api.service.RefreshTokenService;
 import com.dashboard.api.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,6 +29,8 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -36,6 +42,8 @@ public class AuthServiceImpl implements AuthService {
     private final JwtUtils jwtUtils;
     private final AuthenticationManager authenticationManager;
     private final UserMapper userMapper;
+    private final MeterRegistry meterRegistry;
+    private final AuthRateLimiter rateLimiter;
 
     @Override
     public AuthResponse register(RegisterRequest request) {
@@ -48,8 +56,8 @@ public class AuthServiceImpl implements AuthService {
         User userEntity = userService.findByEmail(request.getEmail());
 
         // Generate tokens
-        String accessToken = jwtUtils.generateAccessToken(userEntity);
         RefreshToken refreshToken = refreshTokenService.createRefreshToken(userEntity);
+        String accessToken = jwtUtils.generateAccessToken(userEntity, refreshToken.getAccessTokenId());
 
         log.info("User registered successfully with email: {}", request.getEmail());
 
@@ -65,7 +73,10 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public AuthResponse login(LoginRequest request) {
         log.debug("Authenticating user with email: {}", request.getEmail());
+        rateLimiter.checkLogin(request.getEmail());
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             // Authenticate user
             Authentication authentication = authenticationManager.authenticate(
@@ -75,12 +86,13 @@ public class AuthServiceImpl implements AuthService {
             User user = (User) authentication.getPrincipal();
 
             // Generate tokens
-            String accessToken = jwtUtils.generateAccessToken(user);
             RefreshToken refreshToken = refreshTokenService.createRefreshToken(user);
+            String accessToken = jwtUtils.generateAccessToken(user, refreshToken.getAccessTokenId());
 
             UserResponse userResponse = userMapper.toResponse(user);
 
             log.info("User authenticated successfully with email: {}", request.getEmail());
+            outcome = "success";
 
             return AuthResponse.builder()
                     .accessToken(accessToken)
@@ -92,26 +104,31 @@ public class AuthServiceImpl implements AuthService {
 
         } catch (AuthenticationException e) {
             log.error("Authentication failed for email: {}", request.getEmail());
+            outcome = "failure";
             throw new InvalidCredentialsException("Invalid email or password");
+        } finally {
+            sample.stop(Timer.builder("auth.login")
+                    .description("Login latency; the count per outcome gives login throughput")
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
         }
     }
 
     @Override
+    @Transactional(noRollbackFor = InvalidTokenException.class) // keep reuse-detection revocations
     public RefreshTokenResponse refreshToken(RefreshTokenRequest request) {
         log.debug("Refreshing access token");
 
-        return refreshTokenService.findByToken(request.getRefreshToken())
-                .map(refreshTokenService::verifyExpiration)
-                .map(RefreshToken::getUser)
-                .map(user -> {
-                    String token = jwtUtils.generateAccessToken(user);
-                    return RefreshTokenResponse.builder()
-                            .accessToken(token)
-                            .tokenType("Bearer")
-                            .expiresIn(jwtUtils.getAccessTokenExpirationMs() / 1000) // Convert to seconds
-                            .build();
-                })
-                .orElseThrow(() -> new InvalidTokenException("Refresh token not found"));
+        RefreshToken refreshToken = refreshTokenService.rotateRefreshToken(request.getRefreshToken());
+        String accessToken = jwtUtils.generateAccessToken(refreshToken.getUser(), refreshToken.getAccessTokenId());
+
+        return RefreshTokenResponse.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken.getToken())
+                .tokenType("Bearer")
+                .expiresIn(jwtUtils.getAccessTokenExpirationMs() / 1000) // Convert to seconds
+                .build();
     }
 
     @Override
@@ -126,4 +143,24 @@ public class AuthServiceImpl implements AuthService {
         User currentUser = userService.getCurrentUser();
         refreshTokenService.revokeAllUserTokens(currentUser);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SessionResponse> getActiveSessions() {
+        User currentUser = userService.getCurrentUser();
+        return refreshTokenService.getActiveSessions(currentUser).stream()
+                .map(session -> SessionResponse.builder()
+                        .sessionId(session.getSelector())
+                        .createdAt(session.getCreatedAt())
+                        .lastUsedAt(session.getLastUsedAt())
+                        .expiresAt(session.getExpiresAt())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public boolean revokeSession(String sessionId) {
+        User currentUser = userService.getCurrentUser();
+        return refreshTokenService.revokeSession(currentUser, sessionId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,247 @@
+// src/main/java/com/dashboard/api/service/impl/AvailabilityServiceImpl.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.dto.request.FindSlotsRequest;
+import com.dashboard.api.dto.response.AvailableSlotResponse;
+import com.dashboard.api.entity.User;
+import com.dashboard.api.exception.ValidationException;
+import com.dashboard.api.repository.UserRepository;
+import com.dashboard.api.service.AvailabilityService;
+import com.dashboard.api.service.UserService;
+import com.dashboard.api.util.TimeGrid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+// Finds the earliest slots where every participant is free. Each participant's busy time in the
+// window becomes one bit per grid cell; free cells are the working-hours mask with every busy set
+// cleared, and slots are runs of free cells long enough for the meeting.
+//
+// Deliberately not transactional: participants are read in parallel, each on its own connection,
+// and the request thread must not hold one of the user's admission permits while it waits.
+@Service
+@Slf4j
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    private final RecurrenceExpander recurrenceExpander;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final BusySlotCache busySlotCache;
+    private final AsyncTaskExecutor taskExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxWindowDays;
+
+    public AvailabilityServiceImpl(
+            RecurrenceExpander recurrenceExpander,
+            UserRepository userRepository,
+            UserService userService,
+            BusySlotCache busySlotCache,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.availability.max-window-days:62}") int maxWindowDays
+    ) {
+        this.recurrenceExpander = recurrenceExpander;
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.busySlotCache = busySlotCache;
+        this.taskExecutor = taskExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxWindowDays = maxWindowDays;
+    }
+
+    @Override
+    public List<AvailableSlotResponse> findAvailableSlots(FindSlotsRequest request) {
+        int granularity = Objects.requireNonNullElse(request.getGranularityMinutes(), 15);
+        LocalTime workdayStart = Objects.requireNonNullElse(request.getWorkdayStart(), LocalTime.of(9, 0));
+        LocalTime workdayEnd = Objects.requireNonNullElse(request.getWorkdayEnd(), LocalTime.of(17, 0));
+        validate(request, granularity, workdayStart, workdayEnd);
+
+        List<User> participants = resolveParticipants(request.getParticipants());
+        log.debug("Finding {} slot(s) of {} minutes for {} participant(s) between {} and {}",
+                request.getCount(), request.getDurationMinutes(), participants.size(), request.getFrom(), request.getTo());
+
+        Grid grid = Grid.covering(request.getFrom(), request.getTo(), granularity);
+
+        // The security context travels with each task so database admission is charged to the caller
+        List<Future<BitSet>> busySets = new ArrayList<>(participants.size());
+        for (User participant : participants) {
+            busySets.add(taskExecutor.submit(new DelegatingSecurityContextCallable<>(
+                    () -> loadBusyCells(participant.getId(), grid))));
+        }
+
+        BitSet free = workingCells(grid, request.getFrom(), request.getTo(), workdayStart, workdayEnd,
+                Boolean.TRUE.equals(request.getIncludeWeekends()));
+        try {
+            for (Future<BitSet> busy : busySets) {
+                free.andNot(busy.get());
+            }
+        } catch (InterruptedException e) {
+            busySets.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading participant calendars", e);
+        } catch (ExecutionException e) {
+            busySets.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to load participant calendars", e.getCause());
+        }
+
+        return findRuns(free, grid, request.getDurationMinutes(), Objects.requireNonNullElse(request.getCount(), 1));
+    }
+
+    private void validate(FindSlotsRequest request, int granularity, LocalTime workdayStart, LocalTime workdayEnd) {
+        if (!request.getFrom().isBefore(request.getTo())) {
+            throw new ValidationException("'to' must be after 'from'");
+        }
+        if (request.getFrom().plusDays(maxWindowDays).isBefore(request.getTo())) {
+            throw new ValidationException("Search window must not exceed " + maxWindowDays + " days");
+        }
+        if (!TimeGrid.isValidGranularity(granularity)) {
+            throw new ValidationException("Granularity must be a number of minutes that divides a day evenly");
+        }
+        if (!workdayStart.isBefore(workdayEnd)) {
+            throw new ValidationException("Workday end must be after workday start");
+        }
+    }
+
+    // Current user first, then the requested participants in order, without duplicates. Only
+    // accounts that share their free/busy time can be included. Any other address fails the
+    // request, with the same message whether or not it belongs to an account.
+    private List<User> resolveParticipants(List<String> emails) {
+        User currentUser = userService.getCurrentUser();
+        Map<String, User> participants = new LinkedHashMap<>();
+        participants.put(currentUser.getEmail(), currentUser);
+
+        List<String> others = emails == null ? List.of() : emails.stream()
+                .filter(email -> !participants.containsKey(email))
+                .distinct()
+                .toList();
+        if (others.isEmpty()) {
+            return new ArrayList<>(participants.values());
+        }
+        userRepository.findByEmailInAndShareFreeBusyTrue(others)
+                .forEach(user -> participants.put(user.getEmail(), user));
+        List<String> unavailable = others.stream()
+                .filter(email -> !participants.containsKey(email))
+                .toList();
+        if (!unavailable.isEmpty()) {
+            throw new ValidationException("These participants do not share their availability: "
+                    + String.join(", ", unavailable));
+        }
+        return new ArrayList<>(participants.values());
+    }
+
+    private BitSet loadBusyCells(String userId, Grid grid) {
+        Optional<BitSet> cached = busySlotCache.busyCells(userId, grid.origin(), grid.granularityMinutes(), grid.size());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return readOnlyTransaction.execute(status -> {
+            BitSet busy = new BitSet(grid.size());
+            // All-day events widen to whole days, so look a day beyond the grid on both sides
+            recurrenceExpander.forEachBusySpan(userId, grid.origin().minusDays(1), grid.end().plusDays(1), span -> {
+                int from = grid.clampedIndex(TimeGrid.floor(TimeGrid.busyStart(span.start(), span.allDay()), grid.granularityMinutes()));
+                int to = grid.clampedIndex(TimeGrid.ceil(TimeGrid.busyEnd(span.end(), span.allDay()), grid.granularityMinutes()));
+                if (from < to) {
+                    busy.set(from, to);
+                }
+            });
+            return busy;
+        });
+    }
+
+    // Cells entirely inside working hours and inside [from, to)
+    private BitSet workingCells(Grid grid, LocalDateTime from, LocalDateTime to,
+                                LocalTime workdayStart, LocalTime workdayEnd, boolean includeWeekends) {
+        BitSet working = new BitSet(grid.size());
+        for (LocalDate day = from.toLocalDate(); !day.isAfter(to.toLocalDate()); day = day.plusDays(1)) {
+            if (!includeWeekends && (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY)) {
+                continue;
+            }
+            LocalDateTime start = max(day.atTime(workdayStart), from);
+            LocalDateTime end = min(day.atTime(workdayEnd), to);
+            int startCell = grid.clampedIndex(TimeGrid.ceil(start, grid.granularityMinutes()));
+            int endCell = grid.clampedIndex(TimeGrid.floor(end, grid.granularityMinutes()));
+            if (startCell < endCell) {
+                working.set(startCell, endCell);
+            }
+        }
+        return working;
+    }
+
+    // First `count` non-overlapping runs of free cells long enough for the meeting
+    private List<AvailableSlotResponse> findRuns(BitSet free, Grid grid, int durationMinutes, int count) {
+        int needed = (durationMinutes + grid.granularityMinutes() - 1) / grid.granularityMinutes();
+        List<AvailableSlotResponse> slots = new ArrayList<>(count);
+
+        int start = free.nextSetBit(0);
+        while (start >= 0 && slots.size() < count) {
+            int runEnd = free.nextClearBit(start);
+            if (runEnd - start >= needed) {
+                LocalDateTime slotStart = grid.timeAt(start);
+                slots.add(AvailableSlotResponse.builder()
+                        .startTime(slotStart)
+                        .endTime(slotStart.plusMinutes(durationMinutes))
+                        .build());
+                start = free.nextSetBit(start + needed);
+            } else {
+                start = free.nextSetBit(runEnd);
+            }
+        }
+        return slots;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    // Cell i covers [origin + i * granularity, origin + (i + 1) * granularity)
+    private record Grid(LocalDateTime origin, int granularityMinutes, int size) {
+
+        static Grid covering(LocalDateTime from, LocalDateTime to, int granularityMinutes) {
+            LocalDateTime origin = TimeGrid.floor(from, granularityMinutes);
+            long minutes = Duration.between(origin, TimeGrid.ceil(to, granularityMinutes)).toMinutes();
+            return new Grid(origin, granularityMinutes, (int) (minutes / granularityMinutes));
+        }
+
+        LocalDateTime end() {
+            return timeAt(size);
+        }
+
+        LocalDateTime timeAt(int index) {
+            return origin.plusMinutes((long) index * granularityMinutes);
+        }
+
+        // Index of a grid-aligned time, clamped to [0, size]
+        int clampedIndex(LocalDateTime time) {
+            long index = Math.floorDiv(Duration.between(origin, time).toMinutes(), granularityMinutes);
+            return (int) Math.max(0, Math.min(size, index));
+        }
+    }
+}
@@ -0,0 +1,369 @@
+// src/main/java/com/dashboard/api/service/impl/BusySlotCache.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.entity.CalendarEvent;
+import com.dashboard.api.util.TimeGrid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Per-user bitmap of busy slots over a rolling horizon, so conflict pre-checks and free/busy
+// answers become bit operations instead of queries. A bitmap is built lazily on first use and
+// kept current by the event service: changes are applied once their transaction commits.
+// Overlapping events are reference counted so removing one leaves the others' slots busy.
+//
+// A user's bitmap is only stored when no change of theirs was in flight while it was built;
+// otherwise the caller falls back to the database. Single instance only: changes made through
+// another instance are not seen, so it is off unless app.events.busy-cache.enabled is set.
+@Component
+@Slf4j
+public class BusySlotCache {
+
+    private final RecurrenceExpander recurrenceExpander;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int slotMinutes;
+    private final int pastDays;
+    private final int futureDays;
+    private final int maxUsers;
+    private final long idleMs;
+    private final long maxAgeMs;
+
+    private final Map<String, UserState> states = new ConcurrentHashMap<>();
+    private final AtomicInteger cachedUsers = new AtomicInteger();
+    private final AtomicLong changeSequence = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public BusySlotCache(
+            RecurrenceExpander recurrenceExpander,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.events.busy-cache.enabled:false}") boolean enabled,
+            @Value("${app.events.busy-cache.slot-minutes:15}") int slotMinutes,
+            @Value("${app.events.busy-cache.past-days:30}") int pastDays,
+            @Value("${app.events.busy-cache.future-days:180}") int futureDays,
+            @Value("${app.events.busy-cache.max-users:5000}") int maxUsers,
+            @Value("${app.events.busy-cache.idle-minutes:30}") long idleMinutes,
+            @Value("${app.events.busy-cache.max-age-minutes:360}") long maxAgeMinutes,
+            MeterRegistry meterRegistry
+    ) {
+        if (!TimeGrid.isValidGranularity(slotMinutes)) {
+            throw new IllegalArgumentException("app.events.busy-cache.slot-minutes must divide a day evenly");
+        }
+        this.recurrenceExpander = recurrenceExpander;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.slotMinutes = slotMinutes;
+        this.pastDays = pastDays;
+        this.futureDays = futureDays;
+        this.maxUsers = maxUsers;
+        this.idleMs = Duration.ofMinutes(idleMinutes).toMillis();
+        this.maxAgeMs = Duration.ofMinutes(maxAgeMinutes).toMillis();
+
+        this.hits = Counter.builder("events.busy_cache")
+                .tag("result", "hit")
+                .description("Busy-slot lookups answered from the in-memory bitmaps")
+                .register(meterRegistry);
+        this.misses = Counter.builder("events.busy_cache")
+                .tag("result", "miss")
+                .description("Busy-slot lookups answered from the database")
+                .register(meterRegistry);
+        Gauge.builder("events.busy_cache.users", cachedUsers, AtomicInteger::get)
+                .description("Users with a cached busy-slot bitmap")
+                .register(meterRegistry);
+    }
+
+    // True only when the bitmap proves nothing overlaps [start, end); false means "ask the database"
+    public boolean isFree(String userId, LocalDateTime start, LocalDateTime end) {
+        return read(userId, bitmap -> {
+            int from = bitmap.indexOf(TimeGrid.floor(start, slotMinutes));
+            int to = bitmap.indexOf(TimeGrid.ceil(end, slotMinutes));
+            if (from < 0 || to > bitmap.size) {
+                return null;
+            }
+            int next = bitmap.busy.nextSetBit(from);
+            return next < 0 || next >= to;
+        }).orElse(false);
+    }
+
+    // Busy cells on a coarser grid of `size` cells of granularityMinutes starting at origin, which
+    // must lie on that grid. Empty when the granularity is not a multiple of the slot size or the
+    // range leaves the cached horizon.
+    public Optional<BitSet> busyCells(String userId, LocalDateTime origin, int granularityMinutes, int size) {
+        if (granularityMinutes % slotMinutes != 0) {
+            return Optional.empty();
+        }
+        int ratio = granularityMinutes / slotMinutes;
+        return read(userId, bitmap -> {
+            int base = bitmap.indexOf(origin);
+            long limit = base + (long) size * ratio;
+            if (base < 0 || limit > bitmap.size) {
+                return null;
+            }
+            BitSet cells = new BitSet(size);
+            for (int slot = bitmap.busy.nextSetBit(base); slot >= 0 && slot < limit; slot = bitmap.busy.nextSetBit(slot + 1)) {
+                cells.set((slot - base) / ratio);
+            }
+            return cells;
+        });
+    }
+
+    // Records that an event's busy span changed; either side may be null for a create or delete.
+    // Must be called inside the transaction making the change.
+    public void recordChange(String userId, BusySpan removed, BusySpan added) {
+        afterCommit(userId, () -> apply(userId, removed, added));
+    }
+
+    // A recurring series or its exceptions changed; the user's bitmap is rebuilt on next use
+    public void recordSeriesChange(String userId) {
+        afterCommit(userId, () -> drop(userId));
+    }
+
+    private void afterCommit(String userId, Runnable update) {
+        if (!enabled) {
+            return;
+        }
+        states.compute(userId, (key, state) -> {
+            UserState current = state != null ? state : new UserState();
+            current.changeStamp = changeSequence.incrementAndGet();
+            current.inFlight++;
+            return current;
+        });
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            finish(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                finish(userId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        for (String userId : states.keySet()) {
+            states.computeIfPresent(userId, (key, state) -> {
+                if (state.bitmap != null && (now - state.bitmap.lastAccessMs > idleMs || now - state.bitmap.builtAtMs > maxAgeMs)) {
+                    state.bitmap = null;
+                    cachedUsers.decrementAndGet();
+                }
+                return state.bitmap == null && state.inFlight == 0 ? null : state;
+            });
+        }
+    }
+
+    private <T> Optional<T> read(String userId, Function<Bitmap, T> reader) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        Object[] result = new Object[1];
+        boolean[] cached = new boolean[1];
+        states.computeIfPresent(userId, (key, state) -> {
+            if (state.bitmap != null && now - state.bitmap.builtAtMs > maxAgeMs) {
+                state.bitmap = null;
+                cachedUsers.decrementAndGet();
+            }
+            if (state.bitmap != null) {
+                cached[0] = true;
+                state.bitmap.lastAccessMs = now;
+                result[0] = reader.apply(state.bitmap);
+            }
+            return state;
+        });
+
+        if (!cached[0]) {
+            Bitmap built = build(userId);
+            if (built != null) {
+                // Only trust the fresh bitmap if no change started while it was loading
+                boolean[] current = new boolean[1];
+                states.computeIfPresent(userId, (key, state) -> {
+                    current[0] = state.inFlight == 0 && state.changeStamp == built.changeStamp;
+                    if (current[0] && state.bitmap == null && cachedUsers.get() < maxUsers) {
+                        state.bitmap = built;
+                        cachedUsers.incrementAndGet();
+                    }
+                    return state;
+                });
+                if (current[0]) {
+                    result[0] = reader.apply(built);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return Optional.ofNullable(value);
+    }
+
+    // Loads the user's events for the horizon. Returns null when a change started meanwhile.
+    private Bitmap build(String userId) {
+        if (cachedUsers.get() >= maxUsers) {
+            return null;
+        }
+        long[] stamp = new long[1];
+        boolean[] quiet = new boolean[1];
+        states.compute(userId, (key, state) -> {
+            UserState current = state != null ? state : new UserState();
+            stamp[0] = current.changeStamp;
+            quiet[0] = current.inFlight == 0;
+            return current;
+        });
+        if (!quiet[0]) {
+            return null;
+        }
+
+        LocalDateTime origin = LocalDate.now().minusDays(pastDays).atStartOfDay();
+        Bitmap bitmap = new Bitmap(origin, slotMinutes, (pastDays + futureDays) * (TimeGrid.MINUTES_PER_DAY / slotMinutes), stamp[0]);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            // All-day events widen to whole days, so look a day beyond the horizon on both sides
+            recurrenceExpander.forEachBusySpan(userId, origin.minusDays(1), bitmap.timeAt(bitmap.size).plusDays(1), bitmap::add);
+        });
+        log.debug("Built busy-slot bitmap for user {} from {} ({} slots)", userId, origin, bitmap.size);
+        return bitmap;
+    }
+
+    private void apply(String userId, BusySpan removed, BusySpan added) {
+        states.computeIfPresent(userId, (key, state) -> {
+            if (state.bitmap != null) {
+                if (removed != null) {
+                    state.bitmap.remove(removed);
+                }
+                if (added != null) {
+                    state.bitmap.add(added);
+                }
+            }
+            return state;
+        });
+    }
+
+    private void drop(String userId) {
+        states.computeIfPresent(userId, (key, state) -> {
+            if (state.bitmap != null) {
+                state.bitmap = null;
+                cachedUsers.decrementAndGet();
+            }
+            return state;
+        });
+    }
+
+    private void finish(String userId) {
+        states.computeIfPresent(userId, (key, state) -> {
+            state.inFlight--;
+            return state.bitmap == null && state.inFlight == 0 ? null : state;
+        });
+    }
+
+    public record BusySpan(LocalDateTime start, LocalDateTime end, boolean allDay) {
+
+        public static BusySpan of(CalendarEvent event) {
+            return new BusySpan(event.getStartTime(), event.getEndTime(), Boolean.TRUE.equals(event.getIsAllDay()));
+        }
+    }
+
+    // Guarded by the map: only touched inside compute/computeIfPresent for its key
+    private static final class UserState {
+        private Bitmap bitmap;
+        private long changeStamp;
+        private int inFlight;
+    }
+
+    private static final class Bitmap {
+        private final LocalDateTime origin;
+        private final int slotMinutes;
+        private final int size;
+        private final long changeStamp;
+        private final long builtAtMs = System.currentTimeMillis();
+        private long lastAccessMs = builtAtMs;
+
+        // Bit set while at least one event covers the slot; slots covered by several events keep
+        // the count beyond the first here, which stays small because real calendars rarely overlap
+        private final BitSet busy;
+        private final Map<Integer, Integer> overlaps = new HashMap<>();
+
+        private Bitmap(LocalDateTime origin, int slotMinutes, int size, long changeStamp) {
+            this.origin = origin;
+            this.slotMinutes = slotMinutes;
+            this.size = size;
+            this.changeStamp = changeStamp;
+            this.busy = new BitSet(size);
+        }
+
+        // Slot index of a slot-aligned time; may fall outside [0, size]
+        private int indexOf(LocalDateTime time) {
+            long index = Math.floorDiv(Duration.between(origin, time).toMinutes(), slotMinutes);
+            return (int) Math.max(-1, Math.min(Integer.MAX_VALUE, index));
+        }
+
+        private LocalDateTime timeAt(int index) {
+            return origin.plusMinutes((long) index * slotMinutes);
+        }
+
+        private void add(BusySpan span) {
+            int from = clamp(indexOf(TimeGrid.floor(TimeGrid.busyStart(span.start(), span.allDay()), slotMinutes)));
+            int to = clamp(indexOf(TimeGrid.ceil(TimeGrid.busyEnd(span.end(), span.allDay()), slotMinutes)));
+            for (int slot = from; slot < to; slot++) {
+                if (busy.get(slot)) {
+                    overlaps.merge(slot, 1, Integer::sum);
+                } else {
+                    busy.set(slot);
+                }
+            }
+        }
+
+        private void remove(BusySpan span) {
+            int from = clamp(indexOf(TimeGrid.floor(TimeGrid.busyStart(span.start(), span.allDay()), slotMinutes)));
+            int to = clamp(indexOf(TimeGrid.ceil(TimeGrid.busyEnd(span.end(), span.allDay()), slotMinutes)));
+            for (int slot = from; slot < to; slot++) {
+                Integer extra = overlaps.get(slot);
+                if (extra == null) {
+                    busy.clear(slot);
+                } else if (extra == 1) {
+                    overlaps.remove(slot);
+                } else {
+                    overlaps.put(slot, extra - 1);
+                }
+            }
+        }
+
+        private int clamp(int index) {
+            return Math.max(0, Math.min(size, index));
+        }
+    }
+}
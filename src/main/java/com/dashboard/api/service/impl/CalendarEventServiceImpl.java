@@ -2,10 +2,15 @@
 package com.dashboard.api.service.impl;
 
 import com.dashboard.api.dto.EventFiltersDto;
+import com.dashboard.api.dto.request.BatchConflictRequest;
 import com.dashboard.api.dto.request.CreateEventRequest;
+import com.dashboard.api.dto.request.TimeSlotRequest;
 import com.dashboard.api.dto.request.UpdateEventRequest;
+import com.dashboard.api.dto.response.BusyBlockResponse;
 import com.dashboard.api.dto.response.EventResponse;
 import com.dashboard.api.dto.response.EventStatsResponse;
+import com.dashboard.api.dto.response.FreeBusyResponse;
+import com.dashboard.api.dto.response.SlotConflictsResponse;
 import com.dashboard.api.entity.CalendarEvent;
 import com.dashboard.api.entity.User;
 import com.dashboard.api.enums.EventCategory;
@@ -16,11 +21,15 @@ import com.dashboard.api.mapper.CalendarEventMapper;
 import com.dashboard.api.repository.CalendarEventRepository;
 import com.dashboard.api.service.CalendarEventService;
 import com.dashboard.api.service.UserService;
+import com.dashboard.api.util.RecurrenceRule;
+import com.dashboard.api.util.TimeGrid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -32,9 +41,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CalendarEventServiceImpl implements CalendarEventService {
 
+    private static final int MAX_FREEBUSY_DAYS = 92;
+
     private final CalendarEventRepository eventRepository;
     private final CalendarEventMapper eventMapper;
     private final UserService userService;
+    private final BusySlotCache busySlotCache;
+    private final RecurrenceExpander recurrenceExpander;
+    private final CalendarViewCache viewCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -115,8 +129,15 @@ public class CalendarEventServiceImpl implements CalendarEventService {
 
         CalendarEvent event = eventMapper.toEntity(request);
         event.setUser(currentUser); // Set the current user
+        applyRecurrence(event);
 
         CalendarEvent savedEvent = eventRepository.save(event);
+        viewCache.invalidate(currentUser.getId());
+        if (savedEvent.isRecurring()) {
+            busySlotCache.recordSeriesChange(currentUser.getId());
+        } else {
+            busySlotCache.recordChange(currentUser.getId(), null, BusySlotCache.BusySpan.of(savedEvent));
+        }
         log.info("Created new calendar event with id: {} for user: {}", savedEvent.getId(), currentUser.getEmail());
         return eventMapper.toResponse(savedEvent);
     }
@@ -131,8 +152,29 @@ public class CalendarEventServiceImpl implements CalendarEventService {
             validateEventTiming(request.getStartTime(), request.getEndTime());
         }
 
+        if (existingEvent.getSeriesId() != null && request.getRecurrenceRule() != null) {
+            throw new ValidationException("A single occurrence cannot have its own recurrence");
+        }
+
+        boolean wasRecurring = existingEvent.isRecurring();
+        BusySlotCache.BusySpan previousSpan = BusySlotCache.BusySpan.of(existingEvent);
         eventMapper.updateEntity(request, existingEvent);
+        // A partial update may move only one end; the stored time range must stay well-formed
+        validateEventTiming(existingEvent.getStartTime(), existingEvent.getEndTime());
+        applyRecurrence(existingEvent);
+        if (wasRecurring && !existingEvent.isRecurring()) {
+            // No longer a series: its overrides and cancelled occurrences go with it
+            eventRepository.deleteBySeriesId(existingEvent.getId());
+            existingEvent.getExcludedStarts().clear();
+        }
         CalendarEvent savedEvent = eventRepository.save(existingEvent);
+        viewCache.invalidate(currentUser.getId());
+        BusySlotCache.BusySpan updatedSpan = BusySlotCache.BusySpan.of(savedEvent);
+        if (wasRecurring || savedEvent.isRecurring()) {
+            busySlotCache.recordSeriesChange(currentUser.getId());
+        } else if (!updatedSpan.equals(previousSpan)) {
+            busySlotCache.recordChange(currentUser.getId(), previousSpan, updatedSpan);
+        }
         log.info("Updated calendar event with id: {} for user: {}", id, currentUser.getEmail());
         return eventMapper.toResponse(savedEvent);
     }
@@ -142,10 +184,69 @@ public class CalendarEventServiceImpl implements CalendarEventService {
         log.debug("Deleting calendar event with id: {}", id);
         User currentUser = userService.getCurrentUser();
         CalendarEvent event = findEventByIdAndUser(id, currentUser);
-        eventRepository.delete(event);
+        viewCache.invalidate(currentUser.getId());
+        if (event.isRecurring()) {
+            eventRepository.deleteBySeriesId(event.getId());
+            eventRepository.delete(event);
+            busySlotCache.recordSeriesChange(currentUser.getId());
+        } else {
+            eventRepository.delete(event);
+            busySlotCache.recordChange(currentUser.getId(), BusySlotCache.BusySpan.of(event), null);
+        }
         log.info("Deleted calendar event with id: {} for user: {}", id, currentUser.getEmail());
     }
 
+    @Override
+    public EventResponse updateOccurrence(String id, LocalDateTime originalStart, UpdateEventRequest request) {
+        log.debug("Updating occurrence {} of calendar event {}", originalStart, id);
+        User currentUser = userService.getCurrentUser();
+        CalendarEvent series = findSeriesByIdAndUser(id, currentUser);
+        if (request.getRecurrenceRule() != null) {
+            throw new ValidationException("A single occurrence cannot have its own recurrence");
+        }
+
+        // The first edit turns the occurrence into an override row; later edits update that row
+        CalendarEvent override = eventRepository.findBySeriesIdAndOriginalStartTime(id, originalStart)
+                .orElseGet(() -> {
+                    requireOccurrence(series, originalStart);
+                    series.getExcludedStarts().add(originalStart);
+                    CalendarEvent created = recurrenceExpander.occurrence(series, originalStart);
+                    created.setId(null);
+                    created.setCreatedAt(null);
+                    created.setUpdatedAt(null);
+                    created.setRecurrenceRule(null);
+                    created.setAttendees(series.getAttendees() != null ? new ArrayList<>(series.getAttendees()) : null);
+                    created.setExcludedStarts(new HashSet<>());
+                    return created;
+                });
+
+        eventMapper.updateEntity(request, override);
+        validateEventTiming(override.getStartTime(), override.getEndTime());
+        CalendarEvent savedOverride = eventRepository.save(override);
+        viewCache.invalidate(currentUser.getId());
+        busySlotCache.recordSeriesChange(currentUser.getId());
+        log.info("Updated occurrence {} of calendar event {} for user: {}", originalStart, id, currentUser.getEmail());
+        return eventMapper.toResponse(savedOverride);
+    }
+
+    @Override
+    public void cancelOccurrence(String id, LocalDateTime originalStart) {
+        log.debug("Cancelling occurrence {} of calendar event {}", originalStart, id);
+        User currentUser = userService.getCurrentUser();
+        CalendarEvent series = findSeriesByIdAndUser(id, currentUser);
+
+        Optional<CalendarEvent> override = eventRepository.findBySeriesIdAndOriginalStartTime(id, originalStart);
+        if (override.isPresent()) {
+            eventRepository.delete(override.get());
+        } else {
+            requireOccurrence(series, originalStart);
+        }
+        series.getExcludedStarts().add(originalStart);
+        viewCache.invalidate(currentUser.getId());
+        busySlotCache.recordSeriesChange(currentUser.getId());
+        log.info("Cancelled occurrence {} of calendar event {} for user: {}", originalStart, id, currentUser.getEmail());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public EventStatsResponse getEventStats() {
@@ -154,9 +255,11 @@ public class CalendarEventServiceImpl implements CalendarEventService {
 
         long total = eventRepository.countByUser(currentUser);
         LocalDate today = LocalDate.now();
-        long todayCount = eventRepository.countTodaysEventsByUser(currentUser.getId(), today);
+        long todayCount = eventRepository.countTodaysEventsByUser(currentUser.getId(), today)
+                + recurrenceExpander.countOccurrencesStarting(currentUser.getId(), today.atStartOfDay(), today.plusDays(1).atStartOfDay());
         LocalDateTime now = LocalDateTime.now();
-        long upcoming = eventRepository.countUpcomingEventsByUser(currentUser, now, now.plusDays(7));
+        long upcoming = eventRepository.countUpcomingEventsByUser(currentUser, now, now.plusDays(7))
+                + recurrenceExpander.countOccurrencesStarting(currentUser.getId(), now, now.plusDays(7));
         long overdue = eventRepository.countOverdueEventsByUser(currentUser, now);
 
         Map<String, Integer> byCategory = new HashMap<>();
@@ -190,7 +293,9 @@ public class CalendarEventServiceImpl implements CalendarEventService {
         log.debug("Fetching today's calendar events for current user");
         User currentUser = userService.getCurrentUser();
         LocalDate today = LocalDate.now();
-        List<CalendarEvent> events = eventRepository.findTodaysEventsByUser(currentUser.getId(), today);
+        List<CalendarEvent> events = withOccurrences(
+                eventRepository.findTodaysEventsByUser(currentUser.getId(), today),
+                recurrenceExpander.occurrencesStarting(currentUser.getId(), today.atStartOfDay(), today.plusDays(1).atStartOfDay()));
         return eventMapper.toResponseList(events);
     }
 
@@ -201,7 +306,21 @@ public class CalendarEventServiceImpl implements CalendarEventService {
         User currentUser = userService.getCurrentUser();
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime futureDate = now.plusDays(days);
-        List<CalendarEvent> events = eventRepository.findUpcomingEventsByUser(currentUser, now, futureDate);
+        List<CalendarEvent> events = withOccurrences(
+                eventRepository.findUpcomingEventsByUser(currentUser, now, futureDate),
+                recurrenceExpander.occurrencesStarting(currentUser.getId(), now, futureDate));
+        return eventMapper.toResponseList(events);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventResponse> getCurrentEvents() {
+        log.debug("Fetching calendar events in progress for current user");
+        User currentUser = userService.getCurrentUser();
+        LocalDateTime now = LocalDateTime.now();
+        List<CalendarEvent> events = withOccurrences(
+                eventRepository.findCurrentEventsByUser(currentUser.getId(), now),
+                recurrenceExpander.occurrencesOverlapping(currentUser.getId(), now, now.plusNanos(1)));
         return eventMapper.toResponseList(events);
     }
 
@@ -209,12 +328,76 @@ public class CalendarEventServiceImpl implements CalendarEventService {
     @Transactional(readOnly = true)
     public List<EventResponse> getConflictingEvents(String eventId, CreateEventRequest request) {
         log.debug("Checking for conflicting events for current user");
+        validateEventTiming(request.getStartTime(), request.getEndTime());
         User currentUser = userService.getCurrentUser();
-        List<CalendarEvent> conflicts = eventRepository.findConflictingEventsByUser(
-                currentUser, eventId, request.getStartTime(), request.getEndTime());
+        if (busySlotCache.isFree(currentUser.getId(), request.getStartTime(), request.getEndTime())) {
+            return List.of();
+        }
+        List<CalendarEvent> occurrences = recurrenceExpander.occurrencesOverlapping(
+                currentUser.getId(), request.getStartTime(), request.getEndTime());
+        if (eventId != null) {
+            occurrences.removeIf(occurrence -> eventId.equals(occurrence.getSeriesId()));
+        }
+        List<CalendarEvent> conflicts = withOccurrences(eventRepository.findConflictingEventsByUser(
+                currentUser.getId(), eventId, request.getStartTime(), request.getEndTime()), occurrences);
         return eventMapper.toResponseList(conflicts);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<SlotConflictsResponse> getConflictingEvents(BatchConflictRequest request) {
+        List<TimeSlotRequest> slots = request.getSlots();
+        log.debug("Checking {} candidate slots for conflicts for current user", slots.size());
+        User currentUser = userService.getCurrentUser();
+
+        LocalDateTime windowStart = null;
+        LocalDateTime windowEnd = null;
+        for (TimeSlotRequest slot : slots) {
+            validateEventTiming(slot.getStartTime(), slot.getEndTime());
+            if (windowStart == null || slot.getStartTime().isBefore(windowStart)) {
+                windowStart = slot.getStartTime();
+            }
+            if (windowEnd == null || slot.getEndTime().isAfter(windowEnd)) {
+                windowEnd = slot.getEndTime();
+            }
+        }
+
+        String userId = currentUser.getId();
+        if (slots.stream().allMatch(slot -> busySlotCache.isFree(userId, slot.getStartTime(), slot.getEndTime()))) {
+            return slots.stream()
+                    .map(slot -> SlotConflictsResponse.builder()
+                            .startTime(slot.getStartTime())
+                            .endTime(slot.getEndTime())
+                            .conflicts(List.of())
+                            .build())
+                    .toList();
+        }
+
+        // One query for the window covering every slot plus the series occurrences in it, ordered by start
+        List<CalendarEvent> events = withOccurrences(
+                eventRepository.findOverlappingByUser(userId, windowStart, windowEnd),
+                recurrenceExpander.occurrencesOverlapping(userId, windowStart, windowEnd));
+        if (request.getEventId() != null) {
+            events.removeIf(event -> request.getEventId().equals(event.getId()));
+        }
+
+        List<List<CalendarEvent>> conflicts = sweepConflicts(slots, events);
+
+        Map<String, EventResponse> responses = new HashMap<>();
+        List<SlotConflictsResponse> result = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            result.add(SlotConflictsResponse.builder()
+                    .startTime(slots.get(i).getStartTime())
+                    .endTime(slots.get(i).getEndTime())
+                    .conflicts(conflicts.get(i).stream()
+                            .map(event -> responses.computeIfAbsent(event.getId() + "@" + event.getStartTime(),
+                                    key -> eventMapper.toResponse(event)))
+                            .toList())
+                    .build());
+        }
+        return result;
+    }
+
     // Helper methods
     private boolean hasOnlyDateFilters(EventFiltersDto filters) {
         return (filters.getStartDate() != null || filters.getEndDate() != null) &&
@@ -255,20 +438,22 @@ public class CalendarEventServiceImpl implements CalendarEventService {
                 filters.getEndDate() == null;
     }
 
+    // Events overlapping the selected days, including ones that started earlier and are still running
     private List<CalendarEvent> getEventsByDateRange(User user, EventFiltersDto filters) {
         LocalDateTime startDateTime = filters.getStartDate() != null ?
                 filters.getStartDate().atStartOfDay() : null;
         LocalDateTime endDateTime = filters.getEndDate() != null ?
-                filters.getEndDate().atTime(23, 59, 59) : null;
+                filters.getEndDate().plusDays(1).atStartOfDay() : null;
 
-        if (startDateTime != null && endDateTime != null) {
-            return eventRepository.findByUserAndDateRange(user, startDateTime, endDateTime);
-        } else if (startDateTime != null) {
-            return eventRepository.findByUserAndStartDateAfter(user, startDateTime);
-        } else if (endDateTime != null) {
-            return eventRepository.findByUserAndEndDateBefore(user, endDateTime);
+        if (startDateTime == null && endDateTime == null) {
+            return eventRepository.findByUserOrderByStartTimeAsc(user);
+        }
+        List<CalendarEvent> events = eventRepository.findOverlappingByUser(user.getId(), startDateTime, endDateTime);
+        if (startDateTime == null || endDateTime == null) {
+            // An open-ended range cannot be expanded, so series are listed once
+            return withOccurrences(events, eventRepository.findSeriesOverlapping(user.getId(), startDateTime, endDateTime));
         }
-        return eventRepository.findByUserOrderByStartTimeAsc(user);
+        return withOccurrences(events, recurrenceExpander.occurrencesOverlapping(user.getId(), startDateTime, endDateTime));
     }
 
     private List<CalendarEvent> applyFiltersInMemory(List<CalendarEvent> events, EventFiltersDto filters) {
@@ -282,11 +467,12 @@ public class CalendarEventServiceImpl implements CalendarEventService {
         LocalDateTime startDateTime = filters.getStartDate() != null ?
                 filters.getStartDate().atStartOfDay() : null;
         LocalDateTime endDateTime = filters.getEndDate() != null ?
-                filters.getEndDate().atTime(23, 59, 59) : null;
+                filters.getEndDate().plusDays(1).atStartOfDay() : null;
 
+        // Same half-open overlap test as findOverlappingByUser
         return events.stream()
-                .filter(event -> startDateTime == null || event.getStartTime().isAfter(startDateTime) || event.getStartTime().isEqual(startDateTime))
-                .filter(event -> endDateTime == null || event.getStartTime().isBefore(endDateTime) || event.getStartTime().isEqual(endDateTime))
+                .filter(event -> startDateTime == null || event.getEndTime().isAfter(startDateTime))
+                .filter(event -> endDateTime == null || event.getStartTime().isBefore(endDateTime))
                 .collect(Collectors.toList());
     }
 
@@ -301,6 +487,176 @@ public class CalendarEventServiceImpl implements CalendarEventService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public FreeBusyResponse getFreeBusy(LocalDateTime from, LocalDateTime to, int granularityMinutes) {
+        log.debug("Computing free/busy from {} to {} at {} minute granularity for current user", from, to, granularityMinutes);
+        if (!from.isBefore(to)) {
+            throw new ValidationException("'to' must be after 'from'");
+        }
+        if (from.plusDays(MAX_FREEBUSY_DAYS).isBefore(to)) {
+            throw new ValidationException("Free/busy window must not exceed " + MAX_FREEBUSY_DAYS + " days");
+        }
+        if (!TimeGrid.isValidGranularity(granularityMinutes)) {
+            throw new ValidationException("Granularity must be a number of minutes that divides a day evenly");
+        }
+        User currentUser = userService.getCurrentUser();
+
+        LocalDateTime origin = TimeGrid.floor(from, granularityMinutes);
+        int cellCount = (int) (Duration.between(origin, TimeGrid.ceil(to, granularityMinutes)).toMinutes() / granularityMinutes);
+        Optional<BitSet> cachedCells = busySlotCache.busyCells(currentUser.getId(), origin, granularityMinutes, cellCount);
+        if (cachedCells.isPresent()) {
+            return FreeBusyResponse.builder()
+                    .from(from)
+                    .to(to)
+                    .granularityMinutes(granularityMinutes)
+                    .busy(toBusyBlocks(cachedCells.get(), origin, granularityMinutes, from, to))
+                    .build();
+        }
+
+        List<BusyBlockResponse> busy = new ArrayList<>();
+        // [start, end] of the block being extended
+        LocalDateTime[] block = new LocalDateTime[2];
+
+        // All-day events widen to whole days, so one stored up to a day outside the window can still cover it
+        recurrenceExpander.forEachBusySpan(currentUser.getId(), from.minusDays(1), to.plusDays(1), span -> {
+            LocalDateTime start = max(TimeGrid.floor(TimeGrid.busyStart(span.start(), span.allDay()), granularityMinutes), from);
+            LocalDateTime end = min(TimeGrid.ceil(TimeGrid.busyEnd(span.end(), span.allDay()), granularityMinutes), to);
+            if (!start.isBefore(end)) {
+                return;
+            }
+
+            // Spans arrive in start order: extend the open block or close it and start a new one
+            if (block[1] != null && !start.isAfter(block[1])) {
+                block[1] = max(block[1], end);
+            } else {
+                if (block[1] != null) {
+                    busy.add(BusyBlockResponse.builder().startTime(block[0]).endTime(block[1]).build());
+                }
+                block[0] = start;
+                block[1] = end;
+            }
+        });
+        if (block[1] != null) {
+            busy.add(BusyBlockResponse.builder().startTime(block[0]).endTime(block[1]).build());
+        }
+
+        return FreeBusyResponse.builder()
+                .from(from)
+                .to(to)
+                .granularityMinutes(granularityMinutes)
+                .busy(busy)
+                .build();
+    }
+
+    // Walks the slots in start order alongside the start-ordered events. Events are pulled in once
+    // they start before some slot ends and dropped once they end before the current slot starts,
+    // so each event is added and removed at most once. Results are indexed like the input slots.
+    private List<List<CalendarEvent>> sweepConflicts(List<TimeSlotRequest> slots, List<CalendarEvent> events) {
+        Integer[] order = new Integer[slots.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> slots.get(i).getStartTime()));
+
+        List<List<CalendarEvent>> conflicts = new ArrayList<>(Collections.nCopies(slots.size(), List.of()));
+        List<CalendarEvent> active = new ArrayList<>();
+        int next = 0;
+
+        for (int index : order) {
+            LocalDateTime slotStart = slots.get(index).getStartTime();
+            LocalDateTime slotEnd = slots.get(index).getEndTime();
+
+            while (next < events.size() && events.get(next).getStartTime().isBefore(slotEnd)) {
+                active.add(events.get(next++));
+            }
+            active.removeIf(event -> !event.getEndTime().isAfter(slotStart));
+
+            // active stays in start order, so the first event starting at or after slotEnd ends the scan
+            List<CalendarEvent> overlapping = new ArrayList<>();
+            for (CalendarEvent event : active) {
+                if (!event.getStartTime().isBefore(slotEnd)) {
+                    break;
+                }
+                overlapping.add(event);
+            }
+            conflicts.set(index, overlapping);
+        }
+        return conflicts;
+    }
+
+    // Runs of busy cells as blocks, clipped to [from, to) like the streamed merge
+    private static List<BusyBlockResponse> toBusyBlocks(BitSet cells, LocalDateTime origin, int granularityMinutes,
+                                                        LocalDateTime from, LocalDateTime to) {
+        List<BusyBlockResponse> busy = new ArrayList<>();
+        for (int start = cells.nextSetBit(0); start >= 0; start = cells.nextSetBit(start)) {
+            int end = cells.nextClearBit(start);
+            busy.add(BusyBlockResponse.builder()
+                    .startTime(max(origin.plusMinutes((long) start * granularityMinutes), from))
+                    .endTime(min(origin.plusMinutes((long) end * granularityMinutes), to))
+                    .build());
+            start = end;
+        }
+        return busy;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    // Single events and expanded occurrences merged in start order
+    private static List<CalendarEvent> withOccurrences(List<CalendarEvent> events, List<CalendarEvent> occurrences) {
+        if (occurrences.isEmpty()) {
+            return events;
+        }
+        List<CalendarEvent> merged = new ArrayList<>(events.size() + occurrences.size());
+        merged.addAll(events);
+        merged.addAll(occurrences);
+        merged.sort(Comparator.comparing(CalendarEvent::getStartTime));
+        return merged;
+    }
+
+    // Validates and normalizes the recurrence rule and records when the series ends
+    private void applyRecurrence(CalendarEvent event) {
+        if (event.getRecurrenceRule() == null || event.getRecurrenceRule().isBlank()) {
+            event.setRecurrenceRule(null);
+            event.setRecurrenceEnd(null);
+            return;
+        }
+        if (event.getSeriesId() != null) {
+            throw new ValidationException("A single occurrence cannot have its own recurrence");
+        }
+        RecurrenceRule rule;
+        LocalDateTime lastStart;
+        try {
+            rule = RecurrenceRule.parse(event.getRecurrenceRule());
+            lastStart = rule.lastStart(event.getStartTime());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ValidationException("Invalid recurrence rule: " + e.getMessage());
+        }
+        event.setRecurrenceRule(rule.format());
+        event.setRecurrenceEnd(lastStart == null ? null
+                : lastStart.plus(Duration.between(event.getStartTime(), event.getEndTime())));
+    }
+
+    private CalendarEvent findSeriesByIdAndUser(String id, User user) {
+        CalendarEvent series = findEventByIdAndUser(id, user);
+        if (!series.isRecurring()) {
+            throw new ValidationException("Calendar event " + id + " is not recurring");
+        }
+        return series;
+    }
+
+    private void requireOccurrence(CalendarEvent series, LocalDateTime originalStart) {
+        if (!recurrenceExpander.hasOccurrenceAt(series, originalStart)) {
+            throw new EventNotFoundException("Calendar event " + series.getId() + " has no occurrence at " + originalStart);
+        }
+    }
+
     private CalendarEvent findEventByIdAndUser(String id, User user) {
         return eventRepository.findByIdAndUser(id, user)
                 .orElseThrow(() -> new EventNotFoundException("Calendar event not found with id: " + id));
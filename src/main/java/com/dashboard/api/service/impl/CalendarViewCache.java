@@ -0,0 +1,171 @@
+// src/main/java/com/dashboard/api/service/impl/CalendarViewCache.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.dto.response.CalendarViewResponse;
+import com.dashboard.api.enums.CalendarViewType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Recently built calendar views per user, keyed by view type and first day, so paging back and
+// forth between months is served from memory. Every event write bumps the user's generation and
+// drops their views; a view is only stored if the generation it was built under is still current
+// and no write was in flight meanwhile.
+//
+// Single instance only, like BusySlotCache: writes made through another instance are not seen,
+// so it is off unless app.events.view-cache.enabled is set.
+@Component
+public class CalendarViewCache {
+
+    private final boolean enabled;
+    private final int maxUsers;
+    private final int viewsPerUser;
+    private final long idleMs;
+
+    private final Map<String, UserViews> users = new ConcurrentHashMap<>();
+    private final AtomicLong generationSequence = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public CalendarViewCache(
+            @Value("${app.events.view-cache.enabled:false}") boolean enabled,
+            @Value("${app.events.view-cache.max-users:5000}") int maxUsers,
+            @Value("${app.events.view-cache.views-per-user:12}") int viewsPerUser,
+            @Value("${app.events.view-cache.idle-minutes:30}") long idleMinutes,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.maxUsers = maxUsers;
+        this.viewsPerUser = viewsPerUser;
+        this.idleMs = Duration.ofMinutes(idleMinutes).toMillis();
+
+        this.hits = Counter.builder("events.view_cache")
+                .tag("result", "hit")
+                .description("Calendar views served from memory")
+                .register(meterRegistry);
+        this.misses = Counter.builder("events.view_cache")
+                .tag("result", "miss")
+                .description("Calendar views built from the database")
+                .register(meterRegistry);
+    }
+
+    public Optional<CalendarViewResponse> get(String userId, CalendarViewType type, LocalDate from) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        CalendarViewResponse[] view = new CalendarViewResponse[1];
+        users.computeIfPresent(userId, (key, state) -> {
+            view[0] = state.views.get(new ViewKey(type, from));
+            state.lastAccessMs = now;
+            return state;
+        });
+        (view[0] != null ? hits : misses).increment();
+        return Optional.ofNullable(view[0]);
+    }
+
+    // Generation to pass to put once the view is built, or -1 when it must not be cached
+    public long generation(String userId) {
+        if (!enabled || (!users.containsKey(userId) && users.size() >= maxUsers)) {
+            return -1;
+        }
+        long[] generation = new long[1];
+        users.compute(userId, (key, state) -> {
+            UserViews current = state != null ? state : new UserViews(generationSequence.incrementAndGet(), viewsPerUser);
+            generation[0] = current.inFlight == 0 ? current.generation : -1;
+            return current;
+        });
+        return generation[0];
+    }
+
+    public void put(String userId, CalendarViewType type, LocalDate from, long generation, CalendarViewResponse view) {
+        if (generation < 0) {
+            return;
+        }
+        users.computeIfPresent(userId, (key, state) -> {
+            if (state.inFlight == 0 && state.generation == generation) {
+                state.views.put(new ViewKey(type, from), view);
+            }
+            return state;
+        });
+    }
+
+    // Drops the user's views now and again once the transaction making the change completes, so a
+    // view read from the database before the commit cannot be stored under the new generation.
+    // Must be called inside that transaction.
+    public void invalidate(String userId) {
+        if (!enabled) {
+            return;
+        }
+        users.compute(userId, (key, state) -> {
+            UserViews current = state != null ? state : new UserViews(generationSequence.incrementAndGet(), viewsPerUser);
+            current.generation = generationSequence.incrementAndGet();
+            current.inFlight++;
+            current.views.clear();
+            return current;
+        });
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            finish(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                finish(userId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        for (String userId : users.keySet()) {
+            users.computeIfPresent(userId, (key, state) ->
+                    state.inFlight == 0 && now - state.lastAccessMs > idleMs ? null : state);
+        }
+    }
+
+    private void finish(String userId) {
+        users.computeIfPresent(userId, (key, state) -> {
+            state.generation = generationSequence.incrementAndGet();
+            state.inFlight--;
+            state.views.clear();
+            return state;
+        });
+    }
+
+    private record ViewKey(CalendarViewType type, LocalDate from) {
+    }
+
+    // Guarded by the map: only touched inside compute/computeIfPresent for its key
+    private static final class UserViews {
+        private long generation;
+        private int inFlight;
+        private long lastAccessMs = System.currentTimeMillis();
+        private final Map<ViewKey, CalendarViewResponse> views;
+
+        private UserViews(long generation, int capacity) {
+            this.generation = generation;
+            // Access order, so the least recently viewed window is evicted first
+            this.views = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ViewKey, CalendarViewResponse> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+}
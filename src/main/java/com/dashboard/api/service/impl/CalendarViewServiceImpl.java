@@ -0,0 +1,166 @@
+// src/main/java/com/dashboard/api/service/impl/CalendarViewServiceImpl.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.dto.response.CalendarDayResponse;
+import com.dashboard.api.dto.response.CalendarViewResponse;
+import com.dashboard.api.dto.response.DaySegmentResponse;
+import com.dashboard.api.dto.response.EventResponse;
+import com.dashboard.api.entity.CalendarEvent;
+import com.dashboard.api.entity.User;
+import com.dashboard.api.enums.CalendarViewType;
+import com.dashboard.api.mapper.CalendarEventMapper;
+import com.dashboard.api.repository.CalendarEventRepository;
+import com.dashboard.api.service.CalendarViewService;
+import com.dashboard.api.service.UserService;
+import com.dashboard.api.util.TimeGrid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Calendar grid views with events already split into the days they cover. One range query (plus
+// the window's recurring occurrences) feeds the whole view, and built views are kept in
+// CalendarViewCache until the user's next event write.
+//
+// Not transactional itself so a cache hit never borrows a connection; misses load inside a
+// read-only transaction.
+@Service
+@Slf4j
+public class CalendarViewServiceImpl implements CalendarViewService {
+
+    private static final Comparator<DaySegmentResponse> DAY_ORDER = Comparator
+            .comparing((DaySegmentResponse segment) -> !segment.isWholeDay())
+            .thenComparing(DaySegmentResponse::getSegmentStart)
+            .thenComparing(DaySegmentResponse::getSegmentEnd);
+
+    private final CalendarEventRepository eventRepository;
+    private final RecurrenceExpander recurrenceExpander;
+    private final CalendarEventMapper eventMapper;
+    private final UserService userService;
+    private final CalendarViewCache viewCache;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CalendarViewServiceImpl(
+            CalendarEventRepository eventRepository,
+            RecurrenceExpander recurrenceExpander,
+            CalendarEventMapper eventMapper,
+            UserService userService,
+            CalendarViewCache viewCache,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.eventRepository = eventRepository;
+        this.recurrenceExpander = recurrenceExpander;
+        this.eventMapper = eventMapper;
+        this.userService = userService;
+        this.viewCache = viewCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public CalendarViewResponse getView(CalendarViewType type, LocalDate anchor) {
+        LocalDate from = firstDay(type, anchor);
+        LocalDate to = lastDay(type, anchor);
+        User currentUser = userService.getCurrentUser();
+        String userId = currentUser.getId();
+
+        return viewCache.get(userId, type, from).orElseGet(() -> {
+            log.debug("Building {} view {} to {} for user {}", type, from, to, userId);
+            long generation = viewCache.generation(userId);
+            CalendarViewResponse view = CalendarViewResponse.builder()
+                    .type(type)
+                    .from(from)
+                    .to(to)
+                    .days(readOnlyTransaction.execute(status -> buildDays(userId, from, to)))
+                    .build();
+            viewCache.put(userId, type, from, generation, view);
+            return view;
+        });
+    }
+
+    private List<CalendarDayResponse> buildDays(String userId, LocalDate from, LocalDate to) {
+        LocalDateTime windowStart = from.atStartOfDay();
+        LocalDateTime windowEnd = to.plusDays(1).atStartOfDay();
+
+        // All-day events widen to whole days, so one stored up to a day outside the view can still show
+        List<CalendarEvent> events = new ArrayList<>(
+                eventRepository.findOverlappingByUser(userId, windowStart.minusDays(1), windowEnd.plusDays(1)));
+        events.addAll(recurrenceExpander.occurrencesOverlapping(userId, windowStart.minusDays(1), windowEnd.plusDays(1)));
+
+        int dayCount = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        List<List<DaySegmentResponse>> buckets = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+
+        for (CalendarEvent event : events) {
+            boolean allDay = Boolean.TRUE.equals(event.getIsAllDay());
+            LocalDateTime start = TimeGrid.busyStart(event.getStartTime(), allDay);
+            LocalDateTime end = TimeGrid.busyEnd(event.getEndTime(), allDay);
+
+            // Events always end after they start; the end is exclusive
+            LocalDate firstDay = max(start.toLocalDate(), from);
+            LocalDate lastDay = min(end.minusNanos(1).toLocalDate(), to);
+            EventResponse response = null;
+            for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+                if (response == null) {
+                    response = eventMapper.toResponse(event);
+                }
+                LocalDateTime dayStart = day.atStartOfDay();
+                LocalDateTime nextDayStart = dayStart.plusDays(1);
+                LocalDateTime segmentStart = start.isAfter(dayStart) ? start : dayStart;
+                LocalDateTime segmentEnd = end.isBefore(nextDayStart) ? end : nextDayStart;
+                buckets.get((int) ChronoUnit.DAYS.between(from, day)).add(DaySegmentResponse.builder()
+                        .event(response)
+                        .segmentStart(segmentStart)
+                        .segmentEnd(segmentEnd)
+                        .wholeDay(allDay || (segmentStart.equals(dayStart) && segmentEnd.equals(nextDayStart)))
+                        .continuesFromPreviousDay(start.isBefore(dayStart))
+                        .continuesToNextDay(end.isAfter(nextDayStart))
+                        .build());
+            }
+        }
+
+        List<CalendarDayResponse> days = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) {
+            List<DaySegmentResponse> segments = buckets.get(i);
+            segments.sort(DAY_ORDER);
+            days.add(CalendarDayResponse.builder().date(from.plusDays(i)).events(segments).build());
+        }
+        return days;
+    }
+
+    // Week and month views cover whole Monday-to-Sunday weeks
+    private static LocalDate firstDay(CalendarViewType type, LocalDate anchor) {
+        return switch (type) {
+            case DAY -> anchor;
+            case WEEK -> anchor.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> anchor.withDayOfMonth(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        };
+    }
+
+    private static LocalDate lastDay(CalendarViewType type, LocalDate anchor) {
+        return switch (type) {
+            case DAY -> anchor;
+            case WEEK -> anchor.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH -> anchor.with(TemporalAdjusters.lastDayOfMonth()).with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        };
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,185 @@
+// src/main/java/com/dashboard/api/service/impl/EmailOutboxServiceImpl.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.entity.EmailOutboxMessage;
+import com.dashboard.api.enums.EmailOutboxStatus;
+import com.dashboard.api.mail.SmtpTransportPool;
+import com.dashboard.api.repository.EmailOutboxRepository;
+import com.dashboard.api.service.EmailOutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    // Bodies can carry one-time codes, so nothing is kept once a message is finished with
+    private static final String REDACTED_BODY = "";
+
+    private final EmailOutboxRepository outboxRepository;
+    private final SmtpTransportPool smtpTransportPool;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${app.email.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.email.outbox.initial-backoff-ms:30000}")
+    private long initialBackoffMs;
+
+    @Value("${app.email.outbox.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+
+    // How long a claimed message stays invisible to other dispatchers before it is retried
+    @Value("${app.email.outbox.lease-ms:300000}")
+    private long leaseMs;
+
+    @Value("${app.email.outbox.sent-retention-hours:24}")
+    private long sentRetentionHours;
+
+    @Value("${app.email.outbox.dead-retention-hours:168}")
+    private long deadRetentionHours;
+
+    @Override
+    public void enqueue(String recipient, String subject, String body) {
+        // Joins the caller's transaction, so the email only exists if the business change commits
+        EmailOutboxMessage message = EmailOutboxMessage.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        outboxRepository.save(message);
+        log.debug("Queued email '{}' for: {}", subject, recipient);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int dispatchDueMessages() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Claim a batch in a short transaction so no connection is held during SMTP
+        List<EmailOutboxMessage> batch = transactionTemplate.execute(status -> claimDueMessages());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        // The whole batch goes out over one pooled SMTP session
+        List<EmailOutboxMessage> deliverable = new ArrayList<>(batch.size());
+        List<MimeMessage> mimeMessages = new ArrayList<>(batch.size());
+        for (EmailOutboxMessage message : batch) {
+            try {
+                mimeMessages.add(toMimeMessage(message));
+                deliverable.add(message);
+            } catch (MessagingException e) {
+                markFailed(message, e);
+            }
+        }
+
+        List<Exception> results;
+        try {
+            results = smtpTransportPool.sendBatch(mimeMessages);
+        } catch (RuntimeException e) {
+            // Whatever went wrong, the claimed rows still get their error and backoff recorded
+            results = new ArrayList<>(mimeMessages.size());
+            for (int i = 0; i < mimeMessages.size(); i++) {
+                results.add(e);
+            }
+        }
+        for (int i = 0; i < deliverable.size(); i++) {
+            if (results.get(i) == null) {
+                markSent(deliverable.get(i));
+            } else {
+                markFailed(deliverable.get(i), results.get(i));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.saveAll(batch));
+        return batch.size();
+    }
+
+    @Override
+    public int purgeFinishedMessages() {
+        LocalDateTime now = LocalDateTime.now();
+        int sent = outboxRepository.deleteSentBefore(now.minusHours(sentRetentionHours));
+        int dead = outboxRepository.deleteDeadBefore(now.minusHours(deadRetentionHours));
+        log.debug("Purged {} sent and {} dead outbox emails", sent, dead);
+        return sent + dead;
+    }
+
+    private List<EmailOutboxMessage> claimDueMessages() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> due = outboxRepository.lockDueMessages(now, batchSize);
+        for (EmailOutboxMessage message : due) {
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(now.plusNanos(leaseMs * 1_000_000));
+        }
+        return due;
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxMessage outboxMessage) throws MessagingException {
+        MimeMessage message = new MimeMessage(smtpTransportPool.getSession());
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(fromEmail);
+        helper.setTo(outboxMessage.getRecipient());
+        helper.setSubject(outboxMessage.getSubject());
+        helper.setText(outboxMessage.getBody());
+        return message;
+    }
+
+    private void markSent(EmailOutboxMessage message) {
+        message.setStatus(EmailOutboxStatus.SENT);
+        message.setBody(REDACTED_BODY);
+        message.setSentAt(LocalDateTime.now());
+        message.setLastError(null);
+        meterRegistry.counter("email.outbox.sent").increment();
+        log.info("Email '{}' sent to: {}", message.getSubject(), message.getRecipient());
+    }
+
+    private void markFailed(EmailOutboxMessage message, Exception e) {
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        message.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (message.getAttempts() >= maxAttempts) {
+            message.setStatus(EmailOutboxStatus.DEAD);
+            message.setBody(REDACTED_BODY);
+            meterRegistry.counter("email.outbox.dead").increment();
+            log.error("Giving up on email '{}' to: {} after {} attempts", message.getSubject(),
+                    message.getRecipient(), message.getAttempts(), e);
+            return;
+        }
+
+        // Exponential backoff: initial, 2x, 4x, ... capped at max-backoff
+        long backoffMs = Math.min(maxBackoffMs, initialBackoffMs << Math.min(message.getAttempts() - 1, 20));
+        message.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMs * 1_000_000));
+        meterRegistry.counter("email.outbox.retried").increment();
+        log.warn("Failed to send email '{}' to: {} (attempt {}), retrying in {}s: {}", message.getSubject(),
+                message.getRecipient(), message.getAttempts(), backoffMs / 1000, error);
+    }
+}
@@ -1,40 +1,43 @@
 // src/main/java/com/dashboard/api/service/impl/EmailServiceImpl.java
 package com.dashboard.api.service.impl;
 
+import com.dashboard.api.service.EmailOutboxService;
 import com.dashboard.api.service.EmailService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+// Emails are written to the outbox inside the caller's transaction and delivered by
+// EmailOutboxScheduler after commit, so no request waits on (or holds a connection during) SMTP.
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender mailSender;
+    private static final String OTP_PLACEHOLDER = "{{otp}}";
 
-    @Value("${spring.mail.username}")
-    private String fromEmail;
+    private final EmailOutboxService emailOutboxService;
 
     @Value("${app.name:DashForge}")
     private String appName;
 
+    private String otpSubject;
+    private String otpContentPrefix;
+    private String otpContentSuffix;
+    private String passwordResetSubject;
+    private String passwordResetConfirmationContent;
+    private String passwordChangedSubject;
+    private String passwordChangedContent;
+
     @Override
     public void sendOtpEmail(String toEmail, String otp) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject(appName + " - Password Reset OTP");
-            message.setText(buildOtpEmailContent(otp));
-
-            mailSender.send(message);
-            log.info("OTP email sent successfully to: {}", toEmail);
+            emailOutboxService.enqueue(toEmail, otpSubject, buildOtpEmailContent(otp));
+            log.info("OTP email queued for: {}", toEmail);
         } catch (Exception e) {
-            log.error("Failed to send OTP email to: {}", toEmail, e);
+            log.error("Failed to queue OTP email for: {}", toEmail, e);
             throw new RuntimeException("Failed to send OTP email", e);
         }
     }
@@ -42,37 +45,27 @@ public class EmailServiceImpl implements EmailService {
     @Override
     public void sendPasswordResetConfirmation(String toEmail) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject(appName + " - Password Reset Successful");
-            message.setText(buildPasswordResetConfirmationContent());
-
-            mailSender.send(message);
-            log.info("Password reset confirmation sent to: {}", toEmail);
+            emailOutboxService.enqueue(toEmail, passwordResetSubject, passwordResetConfirmationContent);
+            log.info("Password reset confirmation queued for: {}", toEmail);
         } catch (Exception e) {
-            log.error("Failed to send password reset confirmation to: {}", toEmail, e);
+            log.error("Failed to queue password reset confirmation for: {}", toEmail, e);
         }
     }
 
     @Override
     public void sendPasswordChangedNotification(String toEmail) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject(appName + " - Password Changed");
-            message.setText(buildPasswordChangedContent());
-
-            mailSender.send(message);
-            log.info("Password changed notification sent to: {}", toEmail);
+            emailOutboxService.enqueue(toEmail, passwordChangedSubject, passwordChangedContent);
+            log.info("Password changed notification queued for: {}", toEmail);
         } catch (Exception e) {
-            log.error("Failed to send password changed notification to: {}", toEmail, e);
+            log.error("Failed to queue password changed notification for: {}", toEmail, e);
         }
     }
 
-    private String buildOtpEmailContent(String otp) {
-        return String.format("""
+    // Render the templates once; only the OTP varies per message
+    @PostConstruct
+    void compileTemplates() {
+        String otpTemplate = String.format("""
             Hello,
             
             You requested to reset your password for your %s account.
@@ -85,11 +78,12 @@ public class EmailServiceImpl implements EmailService {
             
             Best regards,
             %s Team
-            """, appName, otp, appName);
-    }
+            """, appName, OTP_PLACEHOLDER, appName);
+        int otpAt = otpTemplate.indexOf(OTP_PLACEHOLDER);
+        otpContentPrefix = otpTemplate.substring(0, otpAt);
+        otpContentSuffix = otpTemplate.substring(otpAt + OTP_PLACEHOLDER.length());
 
-    private String buildPasswordResetConfirmationContent() {
-        return String.format("""
+        passwordResetConfirmationContent = String.format("""
             Hello,
             
             Your password has been successfully reset for your %s account.
@@ -99,10 +93,8 @@ public class EmailServiceImpl implements EmailService {
             Best regards,
             %s Team
             """, appName, appName);
-    }
 
-    private String buildPasswordChangedContent() {
-        return String.format("""
+        passwordChangedContent = String.format("""
             Hello,
             
             Your password has been successfully changed for your %s account.
@@ -112,5 +104,13 @@ public class EmailServiceImpl implements EmailService {
             Best regards,
             %s Team
             """, appName, appName);
+
+        otpSubject = appName + " - Password Reset OTP";
+        passwordResetSubject = appName + " - Password Reset Successful";
+        passwordChangedSubject = appName + " - Password Changed";
+    }
+
+    private String buildOtpEmailContent(String otp) {
+        return otpContentPrefix + otp + otpContentSuffix;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,374 @@
+// src/main/java/com/dashboard/api/service/impl/IcsServiceImpl.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.dto.response.IcsImportResponse;
+import com.dashboard.api.entity.User;
+import com.dashboard.api.enums.EventCategory;
+import com.dashboard.api.enums.EventPriority;
+import com.dashboard.api.ical.IcsEvent;
+import com.dashboard.api.ical.IcsReader;
+import com.dashboard.api.ical.IcsWriter;
+import com.dashboard.api.repository.CalendarEventRepository;
+import com.dashboard.api.service.IcsService;
+import com.dashboard.api.service.UserService;
+import com.dashboard.api.util.RecurrenceRule;
+import com.dashboard.api.util.TimeGrid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// iCalendar export and import. Export streams rows from a database cursor straight into the
+// response, so memory does not grow with the calendar. Import parses the feed one VEVENT at a
+// time and writes batches with plain JDBC, each batch in its own transaction: events whose UID the
+// user already has are dropped by one lookup per batch and, for concurrent imports, by ON CONFLICT.
+//
+// Changed occurrences of a series (RECURRENCE-ID) are exported but not imported; their series is
+// imported with its regular occurrences.
+@Service
+@Slf4j
+public class IcsServiceImpl implements IcsService {
+
+    private static final DateTimeFormatter EXCLUDED_START = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String ATTENDEE_SEPARATOR = String.valueOf((char) 31);
+    private static final String DEFAULT_COLOR = "#3b82f6";
+    private static final String DEFAULT_TITLE = "(No title)";
+    private static final int MAX_COLUMN_LENGTH = 255;
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final String INSERT_EVENT = "INSERT INTO calendar_events (id, user_id, title, description, " +
+            "start_time, end_time, category, priority, location, color, is_all_day, recurrence_rule, recurrence_end, " +
+            "ical_uid, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (user_id, ical_uid) WHERE ical_uid IS NOT NULL DO NOTHING";
+    // Guarded so rows of an event that lost an ON CONFLICT race are not attached to nothing
+    private static final String INSERT_ATTENDEE = "INSERT INTO event_attendees (event_id, attendee) " +
+            "SELECT ?, ? WHERE EXISTS (SELECT 1 FROM calendar_events WHERE id = ?)";
+    private static final String INSERT_EXCLUDED_START = "INSERT INTO event_recurrence_exceptions (event_id, original_start) " +
+            "SELECT ?, ? WHERE EXISTS (SELECT 1 FROM calendar_events WHERE id = ?)";
+
+    private final CalendarEventRepository eventRepository;
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final BusySlotCache busySlotCache;
+    private final CalendarViewCache viewCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int batchSize;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    public IcsServiceImpl(
+            CalendarEventRepository eventRepository,
+            UserService userService,
+            JdbcTemplate jdbcTemplate,
+            BusySlotCache busySlotCache,
+            CalendarViewCache viewCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.events.ics.import-batch-size:500}") int batchSize
+    ) {
+        this.eventRepository = eventRepository;
+        this.userService = userService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.busySlotCache = busySlotCache;
+        this.viewCache = viewCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void exportEvents(Writer writer) {
+        User currentUser = userService.getCurrentUser();
+        IcsWriter ics = new IcsWriter(writer, zone);
+        long[] exported = new long[1];
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<CalendarEventRepository.IcsRow> rows = eventRepository.streamIcsRowsByUser(currentUser.getId())) {
+                ics.begin();
+                for (CalendarEventRepository.IcsRow row : (Iterable<CalendarEventRepository.IcsRow>) rows::iterator) {
+                    ics.write(toIcsEvent(row));
+                    exported[0]++;
+                }
+                ics.end();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("Exported {} calendar events for user: {}", exported[0], currentUser.getEmail());
+    }
+
+    @Override
+    public IcsImportResponse importEvents(InputStream ics) {
+        User currentUser = userService.getCurrentUser();
+        ImportResult result = new ImportResult();
+        // UIDs already taken by this import, so a feed repeating an event keeps the first copy
+        Set<String> seenUids = new HashSet<>();
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+
+        try (IcsReader reader = new IcsReader(new InputStreamReader(ics, StandardCharsets.UTF_8), zone)) {
+            while (reader.hasNext()) {
+                PendingEvent event;
+                try {
+                    event = toPendingEvent(reader.next());
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    result.skip(e.getMessage());
+                    continue;
+                }
+                if (event.uid() != null && !seenUids.add(event.uid())) {
+                    result.duplicates++;
+                    continue;
+                }
+                batch.add(event);
+                if (batch.size() == batchSize) {
+                    insertBatch(currentUser.getId(), batch, result);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!batch.isEmpty()) {
+            insertBatch(currentUser.getId(), batch, result);
+        }
+
+        log.info("Imported {} calendar events for user: {} ({} duplicates, {} skipped)",
+                result.imported, currentUser.getEmail(), result.duplicates, result.skipped);
+        return IcsImportResponse.builder()
+                .imported(result.imported)
+                .duplicates(result.duplicates)
+                .skipped(result.skipped)
+                .errors(result.errors)
+                .build();
+    }
+
+    private void insertBatch(String userId, List<PendingEvent> batch, ImportResult result) {
+        writeTransaction.executeWithoutResult(status -> {
+            List<PendingEvent> fresh = withoutKnownUids(userId, batch);
+            result.duplicates += batch.size() - fresh.size();
+            if (fresh.isEmpty()) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            int[][] inserted = jdbcTemplate.batchUpdate(INSERT_EVENT, fresh, fresh.size(), (ps, event) -> {
+                ps.setString(1, event.id());
+                ps.setString(2, userId);
+                ps.setString(3, event.title());
+                ps.setString(4, event.description());
+                ps.setObject(5, event.start());
+                ps.setObject(6, event.end());
+                ps.setString(7, event.category().name());
+                ps.setString(8, event.priority().name());
+                ps.setString(9, event.location());
+                ps.setString(10, event.color());
+                ps.setBoolean(11, event.allDay());
+                ps.setString(12, event.recurrenceRule());
+                ps.setObject(13, event.recurrenceEnd());
+                ps.setString(14, event.uid());
+                ps.setObject(15, now);
+                ps.setObject(16, now);
+            });
+            int insertedCount = 0;
+            for (int[] counts : inserted) {
+                for (int count : counts) {
+                    // The driver may not report per-row counts for rewritten batches
+                    insertedCount += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+                }
+            }
+            result.imported += insertedCount;
+            result.duplicates += fresh.size() - insertedCount;
+
+            List<String[]> attendees = new ArrayList<>();
+            List<Object[]> excludedStarts = new ArrayList<>();
+            for (PendingEvent event : fresh) {
+                event.attendees().forEach(attendee -> attendees.add(new String[]{event.id(), attendee}));
+                event.excludedStarts().forEach(start -> excludedStarts.add(new Object[]{event.id(), start}));
+            }
+            if (!attendees.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ATTENDEE, attendees, attendees.size(), (ps, row) -> {
+                    ps.setString(1, row[0]);
+                    ps.setString(2, row[1]);
+                    ps.setString(3, row[0]);
+                });
+            }
+            if (!excludedStarts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_EXCLUDED_START, excludedStarts, excludedStarts.size(), (ps, row) -> {
+                    ps.setString(1, (String) row[0]);
+                    ps.setObject(2, row[1]);
+                    ps.setString(3, (String) row[0]);
+                });
+            }
+
+            viewCache.invalidate(userId);
+            busySlotCache.recordSeriesChange(userId);
+        });
+    }
+
+    // One lookup per batch for UIDs the user already has
+    private List<PendingEvent> withoutKnownUids(String userId, List<PendingEvent> batch) {
+        String[] uids = batch.stream().map(PendingEvent::uid).filter(uid -> uid != null).toArray(String[]::new);
+        if (uids.length == 0) {
+            return batch;
+        }
+        Set<String> known = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT ical_uid FROM calendar_events WHERE user_id = ? AND ical_uid = ANY (?)",
+                String.class, userId, uids));
+        return known.isEmpty() ? batch : batch.stream().filter(event -> !known.contains(event.uid())).toList();
+    }
+
+    private PendingEvent toPendingEvent(IcsEvent event) {
+        if (event.recurrenceId() != null) {
+            throw new IllegalArgumentException("Changed occurrence of " + event.uid() + " at " + event.recurrenceId() + " is not imported");
+        }
+        // Same rule as events created in the app. A timed VEVENT without DTEND or DURATION has no
+        // length, would get an empty `during` range and drop out of every overlap query.
+        if (!event.end().isAfter(event.start())) {
+            throw new IllegalArgumentException("Event " + event.uid() + " must end after it starts");
+        }
+
+        String recurrenceRule = null;
+        LocalDateTime recurrenceEnd = null;
+        List<LocalDateTime> excludedStarts = List.of();
+        if (event.recurrenceRule() != null) {
+            RecurrenceRule rule;
+            LocalDateTime lastStart;
+            try {
+                rule = RecurrenceRule.parse(event.recurrenceRule());
+                lastStart = rule.lastStart(event.start());
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new IllegalArgumentException("Event " + event.uid() + ": " + e.getMessage());
+            }
+            recurrenceRule = rule.format();
+            recurrenceEnd = lastStart == null ? null : lastStart.plus(Duration.between(event.start(), event.end()));
+            // Date-only EXDATEs name a day; occurrences start at the series' time of day
+            excludedStarts = event.excludedStarts().stream()
+                    .map(start -> event.allDay() ? start.toLocalDate().atTime(event.start().toLocalTime()) : start)
+                    .distinct()
+                    .toList();
+        }
+
+        return new PendingEvent(
+                UUID.randomUUID().toString(),
+                event.uid() != null && !event.uid().isEmpty() ? truncate(event.uid()) : null,
+                event.summary() != null && !event.summary().isBlank() ? truncate(event.summary().trim()) : DEFAULT_TITLE,
+                event.description(),
+                event.start(),
+                event.end(),
+                event.allDay(),
+                category(event.category()),
+                priority(event.priority()),
+                event.location() != null ? truncate(event.location()) : null,
+                event.color() != null ? truncate(event.color()) : DEFAULT_COLOR,
+                recurrenceRule,
+                recurrenceEnd,
+                event.attendees().stream().map(IcsServiceImpl::truncate).distinct().toList(),
+                excludedStarts);
+    }
+
+    private IcsEvent toIcsEvent(CalendarEventRepository.IcsRow row) {
+        boolean allDay = Boolean.TRUE.equals(row.getAllDay());
+        LocalDateTime start = TimeGrid.busyStart(row.getStartTime(), allDay);
+        LocalDateTime end = TimeGrid.busyEnd(row.getEndTime(), allDay);
+        if (allDay && !end.isAfter(start)) {
+            end = start.plusDays(1);
+        }
+        List<String> attendees = row.getAttendees() == null ? List.of()
+                : Arrays.asList(row.getAttendees().split(ATTENDEE_SEPARATOR));
+        List<LocalDateTime> excludedStarts = row.getExcludedStarts() == null ? List.of()
+                : Arrays.stream(row.getExcludedStarts().split(","))
+                .map(value -> LocalDateTime.parse(value, EXCLUDED_START))
+                .toList();
+        return new IcsEvent(row.getUid(), row.getTitle(), row.getDescription(), row.getLocation(), start, end, allDay,
+                attendees, row.getCategory(), icsPriority(row.getPriority()), row.getColor(), row.getRecurrenceRule(),
+                excludedStarts, row.getOriginalStartTime(), row.getCreatedAt(), row.getUpdatedAt());
+    }
+
+    // iCalendar priorities run from 1 (highest) to 9 (lowest), 0 meaning undefined
+    private static Integer icsPriority(String priority) {
+        if (priority == null) {
+            return null;
+        }
+        return switch (EventPriority.valueOf(priority)) {
+            case HIGH -> 1;
+            case MEDIUM -> 5;
+            case LOW -> 9;
+        };
+    }
+
+    private static EventPriority priority(Integer priority) {
+        if (priority == null || priority == 0 || priority == 5) {
+            return EventPriority.MEDIUM;
+        }
+        return priority < 5 ? EventPriority.HIGH : EventPriority.LOW;
+    }
+
+    private static EventCategory category(String category) {
+        if (category != null) {
+            for (EventCategory candidate : EventCategory.values()) {
+                if (candidate.name().equals(category.toUpperCase(Locale.ROOT))) {
+                    return candidate;
+                }
+            }
+        }
+        return EventCategory.OTHER;
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_COLUMN_LENGTH ? value : value.substring(0, MAX_COLUMN_LENGTH);
+    }
+
+    private record PendingEvent(
+            String id,
+            String uid,
+            String title,
+            String description,
+            LocalDateTime start,
+            LocalDateTime end,
+            boolean allDay,
+            EventCategory category,
+            EventPriority priority,
+            String location,
+            String color,
+            String recurrenceRule,
+            LocalDateTime recurrenceEnd,
+            List<String> attendees,
+            List<LocalDateTime> excludedStarts
+    ) {
+    }
+
+    private static final class ImportResult {
+        private int imported;
+        private int duplicates;
+        private int skipped;
+        private final List<String> errors = new ArrayList<>();
+
+        private void skip(String reason) {
+            skipped++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(reason);
+            }
+        }
+    }
+}
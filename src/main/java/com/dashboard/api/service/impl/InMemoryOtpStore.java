@@ -0,0 +1,116 @@
+// src/main/java/com/dashboard/api/service/impl/InMemoryOtpStore.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.service.OtpStore;
+import com.dashboard.api.util.HashedTimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// OTPs live only in memory: no database round trips on the reset flow and no cleanup sweep.
+// Each entry removes itself through the timing wheel when it expires. OTPs do not survive a
+// restart and are not shared between instances, so this store is opt-in (app.otp.store=memory).
+@Service
+@ConditionalOnProperty(name = "app.otp.store", havingValue = "memory")
+@Slf4j
+public class InMemoryOtpStore implements OtpStore {
+
+    private final Map<String, Entry> otps = new ConcurrentHashMap<>();
+    private final HashedTimingWheel expiryWheel = new HashedTimingWheel("otp-expiry", 1, TimeUnit.SECONDS, 512);
+    private final int maxAttempts;
+
+    public InMemoryOtpStore(@Value("${app.otp.max-attempts:5}") int maxAttempts, MeterRegistry meterRegistry) {
+        this.maxAttempts = maxAttempts;
+        Gauge.builder("otp.store.size", otps, Map::size)
+                .description("Password reset OTPs currently held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void save(String email, String otpCode, Duration ttl) {
+        Entry entry = new Entry(otpCode, System.currentTimeMillis() + ttl.toMillis());
+        entry.expiry = expiryWheel.schedule(() -> otps.remove(email, entry), ttl.toMillis(), TimeUnit.MILLISECONDS);
+
+        Entry previous = otps.put(email, entry);
+        if (previous != null) {
+            previous.expiry.cancel();
+        }
+    }
+
+    @Override
+    public boolean verify(String email, String otpCode) {
+        Entry entry = otps.get(email);
+        if (entry == null || entry.isExpired()) {
+            return false;
+        }
+        if (entry.matches(otpCode)) {
+            return true;
+        }
+        if (entry.failedAttempts.incrementAndGet() >= maxAttempts) {
+            log.warn("Too many wrong OTP attempts for email: {}; OTP discarded", email);
+            remove(email, entry);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean consume(String email, String otpCode) {
+        Entry entry = otps.get(email);
+        if (!verify(email, otpCode)) {
+            return false;
+        }
+        // Only one concurrent reset may use the OTP
+        return remove(email, entry);
+    }
+
+    @Override
+    public int purgeExpired() {
+        // Expired entries are removed by the timing wheel as they expire
+        return 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expiryWheel.close();
+    }
+
+    private boolean remove(String email, Entry entry) {
+        if (otps.remove(email, entry)) {
+            entry.expiry.cancel();
+            return true;
+        }
+        return false;
+    }
+
+    private static final class Entry {
+        private final byte[] code;
+        private final long expiresAtMs;
+        private final AtomicInteger failedAttempts = new AtomicInteger();
+        private HashedTimingWheel.Timeout expiry;
+
+        private Entry(String code, long expiresAtMs) {
+            this.code = code.getBytes(StandardCharsets.UTF_8);
+            this.expiresAtMs = expiresAtMs;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMs;
+        }
+
+        private boolean matches(String otpCode) {
+            return otpCode != null && MessageDigest.isEqual(code, otpCode.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+// src/main/java/com/dashboard/api/service/impl/JpaOtpStore.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.entity.Otp;
+import com.dashboard.api.repository.OtpRepository;
+import com.dashboard.api.service.OtpStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Database backed OTPs, shared by every instance. The default store
+@Service
+@ConditionalOnProperty(name = "app.otp.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class JpaOtpStore implements OtpStore {
+
+    private final OtpRepository otpRepository;
+
+    @Value("${app.otp.max-attempts:5}")
+    private int maxAttempts;
+
+    @Override
+    public void save(String email, String otpCode, Duration ttl) {
+        otpRepository.deleteByEmail(email);
+        otpRepository.save(Otp.builder()
+                .email(email)
+                .otpCode(otpCode)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .used(false)
+                .build());
+    }
+
+    @Override
+    public boolean verify(String email, String otpCode) {
+        Otp otp = otpRepository.findTopByEmailOrderByCreatedAtDesc(email).orElse(null);
+        if (otp == null || !otp.isValid()) {
+            return false;
+        }
+        if (otpCode != null && MessageDigest.isEqual(
+                otp.getOtpCode().getBytes(StandardCharsets.UTF_8), otpCode.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+
+        otp.setFailedAttempts(otp.getFailedAttempts() + 1);
+        if (otp.getFailedAttempts() >= maxAttempts) {
+            log.warn("Too many wrong OTP attempts for email: {}; OTP discarded", email);
+            otpRepository.delete(otp);
+        } else {
+            otpRepository.save(otp);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean consume(String email, String otpCode) {
+        if (!verify(email, otpCode)) {
+            return false;
+        }
+        // Another request may have consumed the code since it was verified
+        return otpRepository.markAsUsed(email, otpCode) > 0;
+    }
+
+    @Override
+    public int purgeExpired() {
+        return otpRepository.deleteExpiredOtps(LocalDateTime.now());
+    }
+}
@@ -1,16 +1,16 @@
 // src/main/java/com/dashboard/api/service/impl/PasswordServiceImpl.java
 package com.dashboard.api.service.impl;
 
+import com.dashboard.api.concurrency.AuthRateLimiter;
 import com.dashboard.api.dto.request.*;
 import com.dashboard.api.dto.response.OtpResponse;
-import com.dashboard.api.entity.Otp;
 import com.dashboard.api.entity.User;
 import com.dashboard.api.exception.InvalidCredentialsException;
 import com.dashboard.api.exception.UserNotFoundException;
 import com.dashboard.api.exception.ValidationException;
-import com.dashboard.api.repository.OtpRepository;
 import com.dashboard.api.repository.UserRepository;
 import com.dashboard.api.service.EmailService;
+import com.dashboard.api.service.OtpStore;
 import com.dashboard.api.service.PasswordService;
 import com.dashboard.api.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
-import java.time.LocalDateTime;
+import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
@@ -30,10 +30,11 @@ public class PasswordServiceImpl implements PasswordService {
 
     private final UserService userService;
     private final UserRepository userRepository;
-    private final OtpRepository otpRepository;
+    private final OtpStore otpStore;
     private final PasswordEncoder passwordEncoder;
 
     private final EmailService emailService;
+    private final AuthRateLimiter rateLimiter;
 
     private static final int OTP_LENGTH = 6;
     private static final int OTP_EXPIRY_MINUTES = 10;
@@ -77,33 +78,22 @@ public class PasswordServiceImpl implements PasswordService {
     @Override
     public OtpResponse sendPasswordResetOtp(ForgotPasswordRequest request) {
         log.debug("Sending password reset OTP to: {}", request.getEmail());
+        rateLimiter.checkOtpSend(request.getEmail());
 
         // Check if user exists
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new UserNotFoundException("No account found with this email"));
 
-        // Delete any existing OTPs for this email
-        otpRepository.deleteByEmail(request.getEmail());
-
-        // Generate 6-digit OTP
+        // Generate 6-digit OTP; replaces any OTP issued earlier for this email
         String otpCode = generateOtp();
+        otpStore.save(request.getEmail(), otpCode, Duration.ofMinutes(OTP_EXPIRY_MINUTES));
 
-        // Create OTP entity
-        Otp otp = Otp.builder()
-                .email(request.getEmail())
-                .otpCode(otpCode)
-                .expiresAt(LocalDateTime.now().plusMinutes(OTP_EXPIRY_MINUTES))
-                .used(false)
-                .build();
-
-        otpRepository.save(otp);
-
-        // Send OTP via email
+        // Queue OTP email; it is delivered once this transaction commits
         try {
             emailService.sendOtpEmail(request.getEmail(), otpCode);
-            log.info("OTP sent via email to: {}", request.getEmail());
+            log.info("OTP email queued for: {}", request.getEmail());
         } catch (Exception e) {
-            log.error("Failed to send OTP email, logging to console as fallback", e);
+            log.error("Failed to queue OTP email, logging to console as fallback", e);
             // Fallback: Log to console in case email fails
             System.out.println("=".repeat(50));
             System.out.println("PASSWORD RESET OTP: " + otpCode);
@@ -120,44 +110,38 @@ public class PasswordServiceImpl implements PasswordService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean verifyOtp(VerifyOtpRequest request) {
         log.debug("Verifying OTP for email: {}", request.getEmail());
+        rateLimiter.checkOtpVerify(request.getEmail());
 
-        Otp otp = otpRepository.findByEmailAndOtpCodeAndUsedFalse(request.getEmail(), request.getOtp())
-                .orElse(null);
-
-        if (otp == null) {
-            log.warn("Invalid OTP attempt for email: {}", request.getEmail());
-            return false;
-        }
-
-        if (otp.isExpired()) {
-            log.warn("Expired OTP attempt for email: {}", request.getEmail());
-            return false;
+        boolean valid = otpStore.verify(request.getEmail(), request.getOtp());
+        if (valid) {
+            log.info("OTP verified successfully for email: {}", request.getEmail());
+        } else {
+            log.warn("Invalid or expired OTP attempt for email: {}", request.getEmail());
         }
-
-        log.info("OTP verified successfully for email: {}", request.getEmail());
-        return true;
+        return valid;
     }
 
+    // A failed OTP attempt must still be counted when the JPA store is used
     @Override
+    @Transactional(noRollbackFor = ValidationException.class)
     public void resetPassword(ResetPasswordRequest request) {
         log.debug("Processing password reset for email: {}", request.getEmail());
 
-        // Verify OTP first
-        if (!verifyOtp(new VerifyOtpRequest() {{
-            setEmail(request.getEmail());
-            setOtp(request.getOtp());
-        }})) {
-            throw new ValidationException("Invalid or expired OTP");
-        }
+        rateLimiter.checkOtpVerify(request.getEmail());
 
-        // Validate passwords match
+        // Validate passwords match before the OTP is used up
         if (!request.getNewPassword().equals(request.getConfirmNewPassword())) {
             throw new ValidationException("Passwords do not match");
         }
 
+        // Verify and invalidate the OTP in one step
+        if (!otpStore.consume(request.getEmail(), request.getOtp())) {
+            log.warn("Invalid or expired OTP attempt for email: {}", request.getEmail());
+            throw new ValidationException("Invalid or expired OTP");
+        }
+
         // Get user
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
@@ -166,9 +150,6 @@ public class PasswordServiceImpl implements PasswordService {
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
 
-        // Mark OTP as used
-        otpRepository.markAsUsed(request.getEmail(), request.getOtp());
-
         // Send confirmation email
         try {
             emailService.sendPasswordResetConfirmation(request.getEmail());
@@ -182,7 +163,10 @@ public class PasswordServiceImpl implements PasswordService {
     @Override
     public void cleanupExpiredOtps() {
         log.debug("Cleaning up expired OTPs");
-        otpRepository.deleteExpiredOtps(LocalDateTime.now());
+        int deleted = otpStore.purgeExpired();
+        if (deleted > 0) {
+            log.info("Deleted {} expired OTPs", deleted);
+        }
     }
 
     private String generateOtp() {
@@ -0,0 +1,143 @@
+// src/main/java/com/dashboard/api/service/impl/RecurrenceExpander.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.entity.CalendarEvent;
+import com.dashboard.api.repository.CalendarEventRepository;
+import com.dashboard.api.util.RecurrenceRule;
+import com.dashboard.api.util.TimeGrid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Expands recurring series into the occurrences that fall inside a query window. Series are
+// stored once; nothing outside the window is ever generated. Cancelled occurrences and those
+// replaced by an override (an ordinary row with series_id set) are skipped here.
+//
+// Callers must run inside a transaction: a series' exceptions are loaded lazily.
+@Component
+@RequiredArgsConstructor
+public class RecurrenceExpander {
+
+    private static final Comparator<BusySlotCache.BusySpan> BY_BUSY_START =
+            Comparator.comparing(span -> TimeGrid.busyStart(span.start(), span.allDay()));
+
+    private final CalendarEventRepository eventRepository;
+
+    // Occurrences overlapping [from, to), as detached copies ordered by start
+    public List<CalendarEvent> occurrencesOverlapping(String userId, LocalDateTime from, LocalDateTime to) {
+        List<CalendarEvent> occurrences = new ArrayList<>();
+        for (CalendarEvent series : eventRepository.findSeriesOverlapping(userId, from, to)) {
+            expand(series, from, to, true, start -> occurrences.add(occurrence(series, start)));
+        }
+        occurrences.sort(Comparator.comparing(CalendarEvent::getStartTime));
+        return occurrences;
+    }
+
+    // Occurrences starting in [from, to), as detached copies ordered by start
+    public List<CalendarEvent> occurrencesStarting(String userId, LocalDateTime from, LocalDateTime to) {
+        List<CalendarEvent> occurrences = new ArrayList<>();
+        for (CalendarEvent series : eventRepository.findSeriesOverlapping(userId, from, to)) {
+            expand(series, from, to, false, start -> occurrences.add(occurrence(series, start)));
+        }
+        occurrences.sort(Comparator.comparing(CalendarEvent::getStartTime));
+        return occurrences;
+    }
+
+    public long countOccurrencesStarting(String userId, LocalDateTime from, LocalDateTime to) {
+        long[] count = new long[1];
+        for (CalendarEvent series : eventRepository.findSeriesOverlapping(userId, from, to)) {
+            expand(series, from, to, false, start -> count[0]++);
+        }
+        return count[0];
+    }
+
+    // Busy time of single events and occurrences overlapping [from, to), ordered by the time they
+    // block from (midnight for all-day events). Single events are streamed from a cursor; only the
+    // window's occurrences are held in memory.
+    public void forEachBusySpan(String userId, LocalDateTime from, LocalDateTime to, Consumer<BusySlotCache.BusySpan> action) {
+        List<BusySlotCache.BusySpan> recurring = new ArrayList<>();
+        for (CalendarEvent series : eventRepository.findSeriesOverlapping(userId, from, to)) {
+            Duration length = Duration.between(series.getStartTime(), series.getEndTime());
+            boolean allDay = Boolean.TRUE.equals(series.getIsAllDay());
+            expand(series, from, to, true,
+                    start -> recurring.add(new BusySlotCache.BusySpan(start, start.plus(length), allDay)));
+        }
+        recurring.sort(BY_BUSY_START);
+
+        int next = 0;
+        try (Stream<CalendarEventRepository.TimeSpan> spans = eventRepository.streamTimeSpansByUser(userId, from, to)) {
+            for (Iterator<CalendarEventRepository.TimeSpan> iterator = spans.iterator(); iterator.hasNext(); ) {
+                CalendarEventRepository.TimeSpan row = iterator.next();
+                BusySlotCache.BusySpan span = new BusySlotCache.BusySpan(row.getStartTime(), row.getEndTime(),
+                        Boolean.TRUE.equals(row.getAllDay()));
+                while (next < recurring.size() && BY_BUSY_START.compare(recurring.get(next), span) <= 0) {
+                    action.accept(recurring.get(next++));
+                }
+                action.accept(span);
+            }
+        }
+        while (next < recurring.size()) {
+            action.accept(recurring.get(next++));
+        }
+    }
+
+    // True when the series has a (not cancelled or overridden) occurrence starting exactly at start
+    public boolean hasOccurrenceAt(CalendarEvent series, LocalDateTime start) {
+        Iterator<LocalDateTime> starts = RecurrenceRule.parse(series.getRecurrenceRule())
+                .startsFrom(series.getStartTime(), start);
+        return starts.hasNext() && starts.next().equals(start) && !series.getExcludedStarts().contains(start);
+    }
+
+    // Detached copy of the series shifted to one occurrence; never persisted
+    public CalendarEvent occurrence(CalendarEvent series, LocalDateTime start) {
+        CalendarEvent occurrence = CalendarEvent.builder()
+                .user(series.getUser())
+                .title(series.getTitle())
+                .description(series.getDescription())
+                .startTime(start)
+                .endTime(start.plus(Duration.between(series.getStartTime(), series.getEndTime())))
+                .category(series.getCategory())
+                .priority(series.getPriority())
+                .location(series.getLocation())
+                .attendees(series.getAttendees())
+                .color(series.getColor())
+                .isAllDay(series.getIsAllDay())
+                .recurrenceRule(series.getRecurrenceRule())
+                .seriesId(series.getId())
+                .originalStartTime(start)
+                .build();
+        occurrence.setId(series.getId());
+        occurrence.setCreatedAt(series.getCreatedAt());
+        occurrence.setUpdatedAt(series.getUpdatedAt());
+        return occurrence;
+    }
+
+    // Calls action with each occurrence start that overlaps (or, without overlapping, starts in) [from, to)
+    private void expand(CalendarEvent series, LocalDateTime from, LocalDateTime to, boolean overlapping,
+                        Consumer<LocalDateTime> action) {
+        Duration length = Duration.between(series.getStartTime(), series.getEndTime());
+        LocalDateTime notBefore = overlapping ? from.minus(length) : from;
+        Iterator<LocalDateTime> starts = RecurrenceRule.parse(series.getRecurrenceRule())
+                .startsFrom(series.getStartTime(), notBefore);
+        while (starts.hasNext()) {
+            LocalDateTime start = starts.next();
+            if (!start.isBefore(to)) {
+                return;
+            }
+            if (overlapping && !start.plus(length).isAfter(from)) {
+                continue;
+            }
+            if (!series.getExcludedStarts().contains(start)) {
+                action.accept(start);
+            }
+        }
+    }
+}
@@ -2,17 +2,29 @@
 package com.dashboard.api.service.impl;
 
 import com.dashboard.api.entity.RefreshToken;
+import com.dashboard.api.entity.RetiredRefreshToken;
 import com.dashboard.api.entity.User;
 import com.dashboard.api.exception.InvalidTokenException;
 import com.dashboard.api.repository.RefreshTokenRepository;
+import com.dashboard.api.repository.RetiredRefreshTokenRepository;
+import com.dashboard.api.security.AccessTokenRevocationStore;
 import com.dashboard.api.service.RefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,27 +34,49 @@ import java.util.UUID;
 @Slf4j
 public class RefreshTokenServiceImpl implements RefreshTokenService {
 
+    // Token format: <selector>.<verifier>, both base64url without padding (16 + 43 chars)
+    private static final int SELECTOR_BYTES = 12;
+    private static final int VERIFIER_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RetiredRefreshTokenRepository retiredRefreshTokenRepository;
+    private final AccessTokenRevocationStore accessTokenRevocationStore;
+
+    @Value("${app.jwt.access-token-expiration:900000}") // 15 minutes
+    private long accessTokenExpirationMs;
 
     @Value("${app.jwt.refresh-token-expiration:604800000}") // 7 days in milliseconds
     private long refreshTokenExpirationMs;
 
+    @Value("${app.refresh-token.max-sessions-per-user:10}")
+    private int maxSessionsPerUser;
+
     @Override
     public RefreshToken createRefreshToken(User user) {
         log.debug("Creating refresh token for user: {}", user.getEmail());
 
-        // Revoke existing tokens for the user (optional - for single device login)
-        // revokeAllUserTokens(user);
+        // Keep at most maxSessionsPerUser live sessions; the new one replaces the least recently used
+        evictLeastRecentlyUsedSessions(user);
+
+        LocalDateTime now = LocalDateTime.now();
+        String selector = randomBase64Url(SELECTOR_BYTES);
+        String rawToken = selector + "." + randomBase64Url(VERIFIER_BYTES);
 
         RefreshToken refreshToken = RefreshToken.builder()
                 .user(user)
-                .token(UUID.randomUUID().toString())
-                .expiresAt(LocalDateTime.now().plusSeconds(refreshTokenExpirationMs / 1000))
+                .selector(selector)
+                .tokenHash(hash(rawToken))
+                .accessTokenId(UUID.randomUUID().toString())
+                .lastUsedAt(now)
+                .expiresAt(now.plusSeconds(refreshTokenExpirationMs / 1000))
                 .revoked(false)
                 .build();
 
         RefreshToken savedToken = refreshTokenRepository.save(refreshToken);
-        log.info("Created refresh token for user: {}", user.getEmail());
+        savedToken.setToken(rawToken);
+        log.info("Created refresh token {} for user: {}", selector, user.getEmail());
 
         return savedToken;
     }
@@ -50,10 +84,63 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
     @Override
     @Transactional(readOnly = true)
     public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        return refreshTokenRepository.findByTokenHash(hash(token));
+    }
+
+    // InvalidTokenException must not undo the revocation that goes with it
+    @Override
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public RefreshToken rotateRefreshToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidTokenException("Refresh token not found");
+        }
+        byte[] presentedHash = hash(token);
+
+        RefreshToken session = refreshTokenRepository.findByTokenHashForUpdate(presentedHash)
+                .orElseGet(() -> {
+                    handlePossibleReuse(presentedHash);
+                    throw new InvalidTokenException("Refresh token not found");
+                });
+        verifyExpiration(session);
+
+        LocalDateTime now = LocalDateTime.now();
+        String rawToken = session.getSelector() + "." + randomBase64Url(VERIFIER_BYTES);
+
+        session.setTokenHash(hash(rawToken));
+        session.setAccessTokenId(UUID.randomUUID().toString());
+        session.setLastUsedAt(now);
+        session.setExpiresAt(now.plusSeconds(refreshTokenExpirationMs / 1000));
+        retire(presentedHash, session);
+
+        RefreshToken rotated = refreshTokenRepository.save(session);
+        rotated.setToken(rawToken);
+        log.debug("Rotated refresh token for session {}", session.getSelector());
+
+        return rotated;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RefreshToken> getActiveSessions(User user) {
+        return refreshTokenRepository.findActiveSessions(user, LocalDateTime.now());
     }
 
     @Override
+    public boolean revokeSession(User user, String sessionId) {
+        log.debug("Revoking session {} for user: {}", sessionId, user.getEmail());
+        return refreshTokenRepository.findByUserAndSelectorAndRevokedFalse(user, sessionId)
+                .map(session -> {
+                    revokeSession(session);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = InvalidTokenException.class)
     public RefreshToken verifyExpiration(RefreshToken token) {
         if (token.isExpired()) {
             refreshTokenRepository.delete(token);
@@ -68,18 +155,98 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
     @Override
     public void revokeToken(String token) {
         log.debug("Revoking refresh token");
-        refreshTokenRepository.revokeToken(token);
+        findByToken(token)
+                .filter(session -> !session.getRevoked())
+                .ifPresent(this::revokeSession);
     }
 
     @Override
     public void revokeAllUserTokens(User user) {
         log.debug("Revoking all refresh tokens for user: {}", user.getEmail());
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.findActiveSessions(user, now).forEach(this::revokeAccessToken);
         refreshTokenRepository.revokeAllUserTokens(user);
     }
 
+    // Each chunk commits on its own so no single statement holds long locks
     @Override
-    public void deleteExpiredTokens() {
-        log.debug("Deleting expired refresh tokens");
-        refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deleteExpiredTokenChunk(int chunkSize) {
+        LocalDateTime now = LocalDateTime.now();
+        return refreshTokenRepository.deleteExpiredOrRevokedChunk(now, chunkSize)
+                + retiredRefreshTokenRepository.deleteExpiredChunk(now, chunkSize);
+    }
+
+    // A token that was already rotated away, however many rotations ago, is being replayed: either
+    // the client retried with a stale copy or someone else holds it. We cannot tell which, so the
+    // whole session is revoked. Its current token is retired too, so whoever holds that one also
+    // gets the reuse error after the reaper has deleted the revoked session.
+    private void handlePossibleReuse(byte[] presentedHash) {
+        retiredRefreshTokenRepository.findByTokenHash(presentedHash).ifPresent(retired -> {
+            refreshTokenRepository.findById(retired.getSessionId())
+                    .filter(session -> !session.getRevoked())
+                    .ifPresent(session -> {
+                        revokeSession(session);
+                        retire(session.getTokenHash(), session);
+                        log.warn("Refresh token reuse detected for session {}; session revoked", session.getSelector());
+                    });
+            throw new InvalidTokenException("Refresh token reuse detected. Please sign in again");
+        });
+    }
+
+    // Remembered until the session, as of now, would expire
+    private void retire(byte[] tokenHash, RefreshToken session) {
+        retiredRefreshTokenRepository.save(RetiredRefreshToken.builder()
+                .tokenHash(tokenHash)
+                .sessionId(session.getId())
+                .expiresAt(session.getExpiresAt())
+                .build());
+    }
+
+    private void revokeSession(RefreshToken session) {
+        session.setRevoked(true);
+        refreshTokenRepository.save(session);
+        revokeAccessToken(session);
+    }
+
+    // The session's current access token would otherwise stay usable until it expires
+    private void revokeAccessToken(RefreshToken session) {
+        if (session.getAccessTokenId() == null || session.getLastUsedAt() == null) {
+            return;
+        }
+        Instant expiresAt = session.getLastUsedAt()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .plusMillis(accessTokenExpirationMs);
+        accessTokenRevocationStore.revoke(session.getAccessTokenId(), expiresAt);
+    }
+
+    private void evictLeastRecentlyUsedSessions(User user) {
+        if (maxSessionsPerUser <= 0) {
+            return;
+        }
+        List<RefreshToken> sessions = refreshTokenRepository.findActiveSessionsForUpdate(user, LocalDateTime.now());
+        int excess = sessions.size() - maxSessionsPerUser + 1;
+        if (excess > 0) {
+            List<RefreshToken> evicted = sessions.subList(0, excess);
+            evicted.forEach(this::revokeAccessToken);
+            refreshTokenRepository.deleteAll(evicted);
+            log.info("Evicted {} least recently used session(s) for user: {}", evicted.size(), user.getEmail());
+        }
+    }
+
+    // Tokens carry 256 bits of randomness, so a plain (unsalted) SHA-256 is enough for lookup
+    private static byte[] hash(String rawToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String randomBase64Url(int bytes) {
+        byte[] buffer = new byte[bytes];
+        RANDOM.nextBytes(buffer);
+        return BASE64_URL.encodeToString(buffer);
     }
 }
\ No newline at end of file
@@ -47,6 +47,17 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
 
+    // Called by DaoAuthenticationProvider with an already encoded password when the stored
+    // hash uses an outdated work factor
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newEncodedPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        user.setPassword(newEncodedPassword);
+        log.info("Upgraded password hash for user: {}", user.getEmail());
+        return userRepository.save(user);
+    }
+
     @Override
     public UserResponse createUser(RegisterRequest request) {
         log.debug("Creating new user with email: {}", request.getEmail());
@@ -62,10 +73,7 @@ public class UserServiceImpl implements UserService {
         }
 
         // Generate username from name (simple approach - you can make this more sophisticated)
-        String username = generateUsername(request.getName());
-        if (existsByUsername(username)) {
-            username = generateUniqueUsername(request.getName());
-        }
+        String username = allocateUsername(request.getName());
 
         // Map to entity and set additional fields
         User user = userMapper.toEntity(request);
@@ -125,17 +133,28 @@ public class UserServiceImpl implements UserService {
         return name.toLowerCase().replaceAll("\\s+", "");
     }
 
-    private String generateUniqueUsername(String name) {
-        String baseUsername = generateUsername(name);
-        int counter = 1;
-        String username = baseUsername + counter;
-
-        while (existsByUsername(username)) {
-            counter++;
-            username = baseUsername + counter;
+    // Picks base, or base + (highest suffix in use + 1), with a single query. The advisory lock makes
+    // concurrent registrations for the same name wait for each other instead of colliding on the
+    // unique constraint. Trailing digits are stripped from the lock key so that e.g. "john1" and
+    // "john" + "1" cannot be handed out in parallel.
+    private String allocateUsername(String name) {
+        String base = generateUsername(name);
+        userRepository.lockUsernameBase(base.replaceAll("\\d+$", ""));
+
+        Long highestSuffix = userRepository.findHighestUsernameSuffix(base, escapeLike(base) + "%", base.length() + 1);
+        if (highestSuffix == null || highestSuffix < 0) {
+            return base;
         }
+        return base + (highestSuffix + 1);
+    }
+
+    private static boolean belongsToBase(String username, String base) {
+        return username != null && username.startsWith(base)
+                && username.substring(base.length()).matches("\\d*");
+    }
 
-        return username;
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
     @Override
@@ -169,18 +188,20 @@ public class UserServiceImpl implements UserService {
         // Update email
         currentUser.setEmail(request.getEmail());
 
+        if (request.getShareFreeBusy() != null) {
+            currentUser.setShareFreeBusy(request.getShareFreeBusy());
+        }
+
         // Regenerate username if name changed
         if (!oldName.equals(request.getName())) {
             log.debug("Name changed from '{}' to '{}', regenerating username", oldName, request.getName());
 
-            String newUsername = generateUsername(request.getName());
-
-            if (existsByUsername(newUsername)) {
-                newUsername = generateUniqueUsername(request.getName());
+            // A name change that keeps the same base (e.g. only case or spacing) keeps the username
+            if (!belongsToBase(currentUser.getUsername(), generateUsername(request.getName()))) {
+                String newUsername = allocateUsername(request.getName());
+                log.debug("New username: {}", newUsername);
+                currentUser.setUsername(newUsername);
             }
-
-            log.debug("New username: {}", newUsername);
-            currentUser.setUsername(newUsername);
         }
 
         User savedUser = userRepository.save(currentUser);
@@ -197,12 +218,12 @@ public class UserServiceImpl implements UserService {
             // 1. Revoke all old refresh tokens
             refreshTokenService.revokeAllUserTokens(savedUser);
 
-            // 2. Generate new access token with updated email
-            String newAccessToken = jwtUtils.generateAccessToken(savedUser);
-
-            // 3. Generate and save new refresh token
+            // 2. Generate and save new refresh token
             RefreshToken newRefreshToken = refreshTokenService.createRefreshToken(savedUser);
 
+            // 3. Generate new access token with updated email, tied to the new session
+            String newAccessToken = jwtUtils.generateAccessToken(savedUser, newRefreshToken.getAccessTokenId());
+
             // 4. Add new tokens to response
             responseBuilder
                     .accessToken(newAccessToken)
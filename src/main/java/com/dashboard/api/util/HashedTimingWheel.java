@@ -0,0 +1,128 @@
+// src/main/java/com/dashboard/api/util/HashedTimingWheel.java
+package com.dashboard.api.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+// Hashed timing wheel for large numbers of coarse timeouts. Scheduling and cancelling are O(1):
+// a timeout is hashed into the slot of the tick it expires on, with a round counter for delays
+// longer than one revolution. A single daemon thread advances one slot per tick and runs what is due.
+//
+// Tasks run on the wheel thread and must be short and must not block.
+@Slf4j
+public class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<Timeout>[] slots;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startNanos = System.nanoTime();
+
+    private volatile boolean running = true;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int slotCount) {
+        if (Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("slotCount must be a power of two");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.mask = slotCount - 1;
+        this.slots = new List[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ArrayList<>();
+        }
+
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Timeout timeout = new Timeout(task, System.nanoTime() - startNanos + unit.toNanos(delay));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = (tick + 1) * tickNanos;
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferPending();
+            expire(slots[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // Never place a timeout in a slot that has already been passed
+            long expiryTick = Math.max(tick, timeout.deadlineNanos / tickNanos);
+            timeout.remainingRounds = (expiryTick - tick) / slots.length;
+            slots[(int) (expiryTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> slot) {
+        Iterator<Timeout> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                iterator.remove();
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    log.warn("Timing wheel task failed", e);
+                }
+            }
+        }
+    }
+
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadlineNanos;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        // The entry stays in its slot until the wheel next passes it, but will not run
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
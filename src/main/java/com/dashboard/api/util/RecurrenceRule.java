@@ -0,0 +1,382 @@
+// src/main/java/com/dashboard/api/util/RecurrenceRule.java
+package com.dashboard.api.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+// Subset of RFC 5545 RRULE: FREQ=DAILY|WEEKLY|MONTHLY|YEARLY with INTERVAL, COUNT or UNTIL, and
+// BYDAY=MO,TU,... for weekly rules. Monthly and yearly rules repeat the series' day of month and
+// skip months that do not have it (the 31st, February 29th), as RFC 5545 does.
+//
+// Occurrences are produced by an iterator that jumps straight to the requested window where the
+// position can be computed, so expanding one week of a ten-year daily series costs a few steps.
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY, YEARLY }
+
+    private static final int MAX_INTERVAL = 1000;
+    // Bounds keep lastStart cheap and every stored time inside what the database can hold
+    private static final int MAX_COUNT = 10_000;
+    private static final int MAX_YEARS = 100;
+    private static final int MAX_SKIPPED_PERIODS = 1000;
+    private static final DateTimeFormatter UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDateTime until;
+    // Weekly rules only, sorted Monday first
+    private final DayOfWeek[] byDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDateTime until, DayOfWeek[] byDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+    }
+
+    // Throws IllegalArgumentException describing the first unsupported or malformed part
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("Recurrence rule is empty");
+        }
+        String body = rule.trim();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        DayOfWeek[] byDay = null;
+
+        for (String part : body.split(";")) {
+            int separator = part.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Malformed recurrence rule part: " + part);
+            }
+            String name = part.substring(0, separator).trim().toUpperCase(Locale.ROOT);
+            String value = part.substring(separator + 1).trim().toUpperCase(Locale.ROOT);
+            switch (name) {
+                case "FREQ" -> {
+                    try {
+                        frequency = Frequency.valueOf(value);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Unsupported recurrence frequency: " + value);
+                    }
+                }
+                case "INTERVAL" -> interval = parsePositive(name, value);
+                case "COUNT" -> count = parsePositive(name, value);
+                case "UNTIL" -> until = parseUntil(value);
+                case "BYDAY" -> byDay = parseDays(value);
+                default -> throw new IllegalArgumentException("Unsupported recurrence rule part: " + name);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence rule needs FREQ");
+        }
+        if (interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("INTERVAL must not exceed " + MAX_INTERVAL);
+        }
+        if (count != null && count > MAX_COUNT) {
+            throw new IllegalArgumentException("COUNT must not exceed " + MAX_COUNT);
+        }
+        if (until != null && until.isAfter(LocalDateTime.now().plusYears(MAX_YEARS))) {
+            throw new IllegalArgumentException("UNTIL must be within " + MAX_YEARS + " years from now");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT and UNTIL cannot be combined");
+        }
+        if (byDay != null && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY is only supported for weekly rules");
+        }
+        return new RecurrenceRule(frequency, interval, count, until, byDay);
+    }
+
+    public boolean isBounded() {
+        return count != null || until != null;
+    }
+
+    // Canonical form stored with the series
+    public String format() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (byDay != null) {
+            rule.append(";BYDAY=");
+            for (int i = 0; i < byDay.length; i++) {
+                rule.append(i == 0 ? "" : ",").append(byDay[i].name(), 0, 2);
+            }
+        }
+        if (count != null) {
+            rule.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            rule.append(";UNTIL=").append(UNTIL_DATE_TIME.format(until));
+        }
+        return rule.toString();
+    }
+
+    // Start of the last occurrence, or null when the series never ends. Throws IllegalArgumentException
+    // when a bounded series has no occurrence at all or its COUNT reaches past MAX_YEARS.
+    public LocalDateTime lastStart(LocalDateTime seriesStart) {
+        if (!isBounded()) {
+            return null;
+        }
+        LocalDateTime last = count != null ? lastCountedStart(seriesStart) : lastStartUntil(seriesStart);
+        if (last == null) {
+            throw new IllegalArgumentException("Recurrence rule has no occurrences");
+        }
+        if (last.isAfter(seriesStart.plusYears(MAX_YEARS))) {
+            throw new IllegalArgumentException("Recurrence must end within " + MAX_YEARS + " years of its start");
+        }
+        return last;
+    }
+
+    // The COUNT-th start computed from COUNT x INTERVAL; only months that can lack the day are walked
+    private LocalDateTime lastCountedStart(LocalDateTime seriesStart) {
+        long periods = (long) (count - 1) * interval;
+        switch (frequency) {
+            case DAILY -> {
+                return seriesStart.plusDays(periods);
+            }
+            case WEEKLY -> {
+                DayOfWeek[] days = byDay != null ? byDay : new DayOfWeek[]{seriesStart.getDayOfWeek()};
+                LocalDate firstWeek = seriesStart.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                // Days of the first week before the series start take the first positions without counting
+                long index = count - 1L;
+                for (DayOfWeek day : days) {
+                    if (day.compareTo(seriesStart.getDayOfWeek()) < 0) {
+                        index++;
+                    }
+                }
+                return firstWeek.plusWeeks(index / days.length * interval)
+                        .plusDays(days[(int) (index % days.length)].getValue() - 1L)
+                        .atTime(seriesStart.toLocalTime());
+            }
+            case MONTHLY -> {
+                if (seriesStart.getDayOfMonth() <= 28) {
+                    return seriesStart.plusMonths(periods);
+                }
+            }
+            case YEARLY -> {
+                if (seriesStart.getMonthValue() != 2 || seriesStart.getDayOfMonth() != 29) {
+                    return seriesStart.plusYears(periods);
+                }
+            }
+        }
+        return lastOf(startsFrom(seriesStart, seriesStart));
+    }
+
+    // Scans back from UNTIL, widening the window until it holds an occurrence or reaches the start
+    private LocalDateTime lastStartUntil(LocalDateTime seriesStart) {
+        for (long periods = 2; ; periods *= 2) {
+            LocalDateTime notBefore = switch (frequency) {
+                case DAILY -> until.minusDays(periods * interval);
+                case WEEKLY -> until.minusWeeks(periods * interval);
+                case MONTHLY -> until.minusMonths(periods * interval);
+                case YEARLY -> until.minusYears(periods * interval);
+            };
+            if (!notBefore.isAfter(seriesStart)) {
+                return lastOf(startsFrom(seriesStart, seriesStart));
+            }
+            LocalDateTime last = lastOf(startsFrom(seriesStart, notBefore));
+            if (last != null) {
+                return last;
+            }
+        }
+    }
+
+    private static LocalDateTime lastOf(Iterator<LocalDateTime> starts) {
+        LocalDateTime last = null;
+        while (starts.hasNext()) {
+            last = starts.next();
+        }
+        return last;
+    }
+
+    // Occurrence starts of a series beginning at seriesStart, ascending, skipping those before notBefore
+    public Iterator<LocalDateTime> startsFrom(LocalDateTime seriesStart, LocalDateTime notBefore) {
+        return new Occurrences(seriesStart, notBefore);
+    }
+
+    private static int parsePositive(String name, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < 1) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number");
+        }
+    }
+
+    // Times are local like every event time; a trailing Z is accepted and ignored
+    private static LocalDateTime parseUntil(String value) {
+        String local = value.endsWith("Z") ? value.substring(0, value.length() - 1) : value;
+        try {
+            return local.length() == 8
+                    ? LocalDate.parse(local, UNTIL_DATE).atTime(LocalTime.MAX)
+                    : LocalDateTime.parse(local, UNTIL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("UNTIL must look like 20251231 or 20251231T170000");
+        }
+    }
+
+    private static DayOfWeek[] parseDays(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .map(RecurrenceRule::parseDay)
+                .distinct()
+                .sorted()
+                .toArray(DayOfWeek[]::new);
+    }
+
+    private static DayOfWeek parseDay(String code) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(code) && code.length() == 2) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported BYDAY value: " + code);
+    }
+
+    private final class Occurrences implements Iterator<LocalDateTime> {
+
+        private final LocalDateTime seriesStart;
+        private final LocalDateTime notBefore;
+        private final LocalDate firstWeek;
+        private final DayOfWeek[] days;
+
+        private long period;
+        private int slot;
+        // Occurrences already produced or skipped, for COUNT
+        private long position;
+        private LocalDateTime next;
+
+        private Occurrences(LocalDateTime seriesStart, LocalDateTime notBefore) {
+            this.seriesStart = seriesStart;
+            this.notBefore = notBefore;
+            this.firstWeek = seriesStart.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            this.days = byDay != null ? byDay : new DayOfWeek[]{seriesStart.getDayOfWeek()};
+            skipAhead();
+            this.next = advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime current = next;
+            next = advance();
+            return current;
+        }
+
+        // Jumps to one period before the window when the number of skipped occurrences is known
+        private void skipAhead() {
+            if (!notBefore.isAfter(seriesStart)) {
+                return;
+            }
+            switch (frequency) {
+                case DAILY -> {
+                    period = Math.max(0, ChronoUnit.DAYS.between(seriesStart.toLocalDate(), notBefore.toLocalDate()) / interval - 1);
+                    position = period;
+                }
+                case WEEKLY -> {
+                    period = Math.max(0, ChronoUnit.WEEKS.between(firstWeek, notBefore.toLocalDate()) / interval - 1);
+                    if (period > 0) {
+                        position = period * days.length - daysBeforeSeriesStart();
+                    }
+                }
+                case MONTHLY, YEARLY -> {
+                    // Skipped months that lack the day would have to be counted, so COUNT rules walk from the start
+                    if (count == null) {
+                        long months = ChronoUnit.MONTHS.between(seriesStart, notBefore);
+                        long monthsPerPeriod = (long) interval * (frequency == Frequency.YEARLY ? 12 : 1);
+                        period = Math.max(0, months / monthsPerPeriod - 1);
+                    }
+                }
+            }
+        }
+
+        private int daysBeforeSeriesStart() {
+            int skipped = 0;
+            for (DayOfWeek day : days) {
+                if (firstWeek.plusDays(day.getValue() - 1L).atTime(seriesStart.toLocalTime()).isBefore(seriesStart)) {
+                    skipped++;
+                }
+            }
+            return skipped;
+        }
+
+        private LocalDateTime advance() {
+            int invalidInARow = 0;
+            while (count == null || position < count) {
+                LocalDateTime candidate = candidate();
+                if (candidate == null) {
+                    // Day of month missing in this month or year; RFC 5545 skips it without counting
+                    if (++invalidInARow > MAX_SKIPPED_PERIODS) {
+                        return null;
+                    }
+                    continue;
+                }
+                invalidInARow = 0;
+                if (candidate.isBefore(seriesStart)) {
+                    continue;
+                }
+                if (until != null && candidate.isAfter(until)) {
+                    return null;
+                }
+                position++;
+                if (!candidate.isBefore(notBefore)) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        // Candidate for the current period and slot, then steps to the next one
+        private LocalDateTime candidate() {
+            LocalDateTime candidate = switch (frequency) {
+                case DAILY -> seriesStart.plusDays(period * interval);
+                case WEEKLY -> firstWeek.plusWeeks(period * interval)
+                        .plusDays(days[slot].getValue() - 1L)
+                        .atTime(seriesStart.toLocalTime());
+                case MONTHLY -> sameDayOrNull(seriesStart.plusMonths(period * interval));
+                case YEARLY -> sameDayOrNull(seriesStart.plusYears(period * interval));
+            };
+            if (frequency == Frequency.WEEKLY && ++slot < days.length) {
+                return candidate;
+            }
+            slot = 0;
+            period++;
+            return candidate;
+        }
+
+        private LocalDateTime sameDayOrNull(LocalDateTime shifted) {
+            return shifted.getDayOfMonth() == seriesStart.getDayOfMonth() ? shifted : null;
+        }
+    }
+}
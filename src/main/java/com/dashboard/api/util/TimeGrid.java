@@ -0,0 +1,37 @@
+// src/main/java/com/dashboard/api/util/TimeGrid.java
+package com.dashboard.api.util;
+
+import java.time.LocalDateTime;
+
+// Grid of equal cells that restarts at every midnight, used to snap busy time to whole slots.
+// The cell size must divide a day so no cell straddles midnight.
+public final class TimeGrid {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private TimeGrid() {
+    }
+
+    public static boolean isValidGranularity(int minutes) {
+        return minutes >= 1 && minutes <= MINUTES_PER_DAY && MINUTES_PER_DAY % minutes == 0;
+    }
+
+    public static LocalDateTime floor(LocalDateTime time, int granularityMinutes) {
+        int minuteOfDay = time.getHour() * 60 + time.getMinute();
+        return time.toLocalDate().atStartOfDay().plusMinutes(minuteOfDay - minuteOfDay % granularityMinutes);
+    }
+
+    public static LocalDateTime ceil(LocalDateTime time, int granularityMinutes) {
+        LocalDateTime floor = floor(time, granularityMinutes);
+        return floor.equals(time) ? floor : floor.plusMinutes(granularityMinutes);
+    }
+
+    // All-day events block whole days whatever times were stored with them
+    public static LocalDateTime busyStart(LocalDateTime start, boolean allDay) {
+        return allDay ? start.toLocalDate().atStartOfDay() : start;
+    }
+
+    public static LocalDateTime busyEnd(LocalDateTime end, boolean allDay) {
+        return allDay ? ceil(end, MINUTES_PER_DAY) : end;
+    }
+}
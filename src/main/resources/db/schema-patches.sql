@@ -0,0 +1,70 @@
+-- Idempotent schema changes that Hibernate's ddl-auto=update cannot express.
+-- Executed by SchemaPatchRunner on every startup, after Hibernate has updated the schema.
+
+-- Refresh tokens are stored as SHA-256 digests. Raw tokens from older releases cannot be
+-- converted, so those sessions are dropped and their users sign in again.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'refresh_tokens' AND column_name = 'token') THEN
+        DELETE FROM refresh_tokens;
+        ALTER TABLE refresh_tokens DROP COLUMN token;
+    END IF;
+END $$;
+
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash bytea NOT NULL;
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS selector varchar(16) NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_refresh_token_hash ON refresh_tokens (token_hash);
+
+-- Prefix lookups (username LIKE 'base%') used when allocating usernames. The unique constraint's
+-- index uses the database collation and cannot serve LIKE.
+CREATE INDEX IF NOT EXISTS idx_users_username_pattern ON users (username text_pattern_ops);
+
+-- Calendar events are always queried per user; (user_id, start_time) replaces the single-column
+-- indexes, which Hibernate does not drop on its own.
+DROP INDEX IF EXISTS idx_event_user_id;
+DROP INDEX IF EXISTS idx_event_start_time;
+
+-- Event time as a half-open range so overlap and "happening at" checks are a single && / @>
+-- against a GiST index instead of OR'd comparisons no B-tree can serve. GREATEST keeps rows
+-- with an inverted end time from failing the column. btree_gist lets user_id share the index;
+-- without the extension the range queries still work, just without idx_event_user_during.
+ALTER TABLE calendar_events ADD COLUMN IF NOT EXISTS during tsrange
+    GENERATED ALWAYS AS (tsrange(start_time, GREATEST(start_time, end_time), '[)')) STORED;
+
+DO $$
+BEGIN
+    CREATE EXTENSION IF NOT EXISTS btree_gist;
+EXCEPTION WHEN insufficient_privilege THEN
+    RAISE NOTICE 'btree_gist is not available, skipping idx_event_user_during';
+END $$;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'btree_gist') THEN
+        CREATE INDEX IF NOT EXISTS idx_event_user_during ON calendar_events USING gist (user_id, during);
+    END IF;
+END $$;
+
+-- Recurring series are looked up per user and window on every read; keep them in their own
+-- small index instead of scanning the user's single events.
+CREATE INDEX IF NOT EXISTS idx_event_user_series ON calendar_events (user_id, start_time)
+    WHERE recurrence_rule IS NOT NULL;
+
+-- iCalendar imports skip events whose UID the user already has. Partial, so events created in
+-- the app (no UID) are unconstrained; also the arbiter for INSERT ... ON CONFLICT DO NOTHING.
+CREATE UNIQUE INDEX IF NOT EXISTS idx_event_user_ical_uid ON calendar_events (user_id, ical_uid)
+    WHERE ical_uid IS NOT NULL;
+
+-- Outbox bodies can hold one-time codes; finished messages no longer keep theirs. Clears rows
+-- written before that.
+UPDATE email_outbox SET body = '' WHERE status IN ('SENT', 'DEAD') AND body <> '';
+
+-- The token reaper deletes "expires_at < now OR is_revoked". With an index for each side the
+-- planner can BitmapOr them instead of scanning the table; revoked rows are few, so this one
+-- stays small.
+CREATE INDEX IF NOT EXISTS idx_refresh_token_revoked ON refresh_tokens (id) WHERE is_revoked;
+
+-- Rotated-away refresh tokens moved to retired_refresh_tokens, which keeps every one of them
+-- rather than only the last.
+ALTER TABLE refresh_tokens DROP COLUMN IF EXISTS previous_token_hash;
@@ -0,0 +1,177 @@
+// src/test/java/com/dashboard/api/concurrency/DbAdmissionLimiterTest.java
+package com.dashboard.api.concurrency;
+
+import com.dashboard.api.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DbAdmissionLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Worker> workers = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        workers.forEach(Worker::finish);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void nestedBorrowsOnOneThreadSkipAdmission() throws SQLTransientConnectionException {
+        DbAdmissionLimiter limiter = limiter(1, 1, 1000, 1000);
+
+        DbAdmissionLimiter.Admission outer = limiter.acquire();
+        // Would wait on itself if it went through admission
+        DbAdmissionLimiter.Admission nested = limiter.acquire();
+
+        assertThat(outer).isNotNull();
+        assertThat(nested).isNull();
+        assertThat(available()).isZero();
+        limiter.release(nested);
+        assertThat(available()).isZero();
+        limiter.release(outer);
+        assertThat(available()).isEqualTo(1);
+        assertThat(limiter.acquire()).isNotNull();
+    }
+
+    @Test
+    void capsEachUserWhileOthersKeepGettingConnections() throws Exception {
+        DbAdmissionLimiter limiter = limiter(4, 2, 100, 1000);
+        start(limiter, "alice", new CopyOnWriteArrayList<>()).awaitGranted();
+        start(limiter, "alice", new CopyOnWriteArrayList<>()).awaitGranted();
+
+        Worker third = start(limiter, "alice", new CopyOnWriteArrayList<>());
+        Worker bob = start(limiter, "bob", new CopyOnWriteArrayList<>());
+
+        bob.awaitGranted();
+        assertThat(third.failure()).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.get("db.admission.timeouts").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void servesWaitingUsersRoundRobin() throws Exception {
+        DbAdmissionLimiter limiter = limiter(1, 1, 5000, 5000);
+        List<String> grants = new CopyOnWriteArrayList<>();
+        Worker holder = start(limiter, "carol", grants);
+        holder.awaitGranted();
+
+        List<Worker> queued = new ArrayList<>();
+        for (String user : List.of("alice", "alice", "alice", "bob")) {
+            queued.add(start(limiter, user, grants));
+            awaitWaiting(queued.size());
+        }
+
+        holder.finish();
+        for (int i = 0; i < queued.size(); i++) {
+            awaitGrants(grants, i + 2);
+            queued.stream().filter(Worker::isGranted).forEach(Worker::finish);
+        }
+
+        // bob waited behind all of alice's requests but only had to let one of them go first
+        assertThat(grants).containsExactly("carol", "alice", "bob", "alice", "alice");
+    }
+
+    @Test
+    void neverWaitsLongerThanHikarisConnectionTimeout() throws SQLTransientConnectionException {
+        DbAdmissionLimiter limiter = limiter(1, 1, 60_000, 50);
+        limiter.acquire();
+
+        long start = System.nanoTime();
+        Worker waiter = start(limiter, "alice", new CopyOnWriteArrayList<>());
+
+        assertThat(waiter.failure()).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    private DbAdmissionLimiter limiter(int maxConcurrent, int perUserLimit, long acquireTimeoutMs, long connectionTimeoutMs) {
+        return new DbAdmissionLimiter(maxConcurrent, perUserLimit, 4, acquireTimeoutMs, connectionTimeoutMs, meterRegistry);
+    }
+
+    private Worker start(DbAdmissionLimiter limiter, String userId, List<String> grants) {
+        Worker worker = new Worker(limiter, userId, grants);
+        workers.add(worker);
+        worker.thread.start();
+        return worker;
+    }
+
+    private double available() {
+        return meterRegistry.get("db.admission.available").gauge().value();
+    }
+
+    private void awaitWaiting(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("db.admission.waiting").gauge().value() < count) {
+            assertThat(System.nanoTime()).as("waiting for %d queued threads", count).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitGrants(List<String> grants, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (grants.size() < count) {
+            assertThat(System.nanoTime()).as("waiting for %d grants", count).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    // Borrows one admission as the given user and holds it until finish()
+    private static final class Worker {
+
+        private final Thread thread;
+        private final CountDownLatch granted = new CountDownLatch(1);
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final CompletableFuture<Exception> result = new CompletableFuture<>();
+
+        private Worker(DbAdmissionLimiter limiter, String userId, List<String> grants) {
+            this.thread = new Thread(() -> {
+                User user = User.builder().email(userId + "@example.com").build();
+                user.setId(userId);
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(user, null, List.of()));
+                try {
+                    DbAdmissionLimiter.Admission admission = limiter.acquire();
+                    grants.add(userId);
+                    granted.countDown();
+                    result.complete(null);
+                    done.await();
+                    limiter.release(admission);
+                } catch (SQLTransientConnectionException e) {
+                    result.complete(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            this.thread.setDaemon(true);
+        }
+
+        private void awaitGranted() throws InterruptedException {
+            assertThat(granted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        private boolean isGranted() {
+            return granted.getCount() == 0;
+        }
+
+        private Exception failure() {
+            return result.orTimeout(5, TimeUnit.SECONDS).join();
+        }
+
+        private void finish() {
+            done.countDown();
+        }
+    }
+}
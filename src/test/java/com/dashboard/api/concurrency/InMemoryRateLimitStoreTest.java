@@ -0,0 +1,136 @@
+// src/test/java/com/dashboard/api/concurrency/InMemoryRateLimitStoreTest.java
+package com.dashboard.api.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitStoreTest {
+
+    // 3 per burst, then one every 20 seconds
+    private static final RateLimitPolicy LOGIN = new RateLimitPolicy("login", 3, 3);
+    private static final RateLimitPolicy NO_REFILL = new RateLimitPolicy("fixed", 1000, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void allowsABurstUpToCapacityThenReportsTheWait() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, meterRegistry);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.tryConsume("1.2.3.4", LOGIN)).isZero();
+        }
+        assertThat(store.tryConsume("1.2.3.4", LOGIN)).isBetween(19_000L, 20_000L);
+    }
+
+    @Test
+    void keepsKeysAndPoliciesApart() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, meterRegistry);
+        RateLimitPolicy otherPolicy = new RateLimitPolicy("register", 1, 1);
+
+        assertThat(store.tryConsume("a", otherPolicy)).isZero();
+        assertThat(store.tryConsume("a", otherPolicy)).isPositive();
+        assertThat(store.tryConsume("b", otherPolicy)).isZero();
+        assertThat(store.tryConsume("a", LOGIN)).isZero();
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, meterRegistry);
+        // One token every 100 ms
+        RateLimitPolicy fast = new RateLimitPolicy("fast", 1, 600);
+
+        assertThat(store.tryConsume("a", fast)).isZero();
+        assertThat(store.tryConsume("a", fast)).isBetween(1L, 100L);
+        Thread.sleep(150);
+        assertThat(store.tryConsume("a", fast)).isZero();
+    }
+
+    @Test
+    void neverRefillsAPolicyWithoutRefillRate() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, meterRegistry);
+        RateLimitPolicy once = new RateLimitPolicy("once", 1, 0);
+
+        assertThat(store.tryConsume("a", once)).isZero();
+        assertThat(store.tryConsume("a", once)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void aFloodOfKeysDoesNotThrottleAFreshKey() {
+        // Ten keys per stripe
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(160, meterRegistry);
+        RateLimitPolicy single = new RateLimitPolicy("single", 1, 0);
+
+        for (int i = 0; i < 10_000; i++) {
+            store.tryConsume("scan-" + i, single);
+        }
+
+        assertThat(store.tryConsume("legitimate-user", single)).isZero();
+        assertThat(meterRegistry.get("rate_limit.keys").gauge().value()).isLessThanOrEqualTo(160);
+    }
+
+    @Test
+    void evictsIdleKeysBeforeActiveOnes() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(160, meterRegistry);
+        RateLimitPolicy single = new RateLimitPolicy("single", 1, 0);
+        store.tryConsume("active", single);
+
+        for (int i = 0; i < 10_000; i++) {
+            store.tryConsume("scan-" + i, single);
+            if (i % 5 == 0) {
+                store.tryConsume("active", single);
+            }
+        }
+
+        // Still drained: its bucket was kept rather than replaced with a full one
+        assertThat(store.tryConsume("active", single)).isPositive();
+    }
+
+    @Test
+    void handsOutExactlyTheCapacityUnderContention() throws Exception {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, meterRegistry);
+        AtomicInteger allowed = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                done.add(executor.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        if (store.tryConsume("shared", NO_REFILL) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : done) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(allowed.get()).isEqualTo(1000);
+    }
+
+    @Test
+    void sweepsOnlyBucketsThatAreFullAgain() throws InterruptedException {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, meterRegistry);
+        RateLimitPolicy fast = new RateLimitPolicy("fast", 1, 600);
+
+        store.tryConsume("refilled", fast);
+        store.tryConsume("drained", NO_REFILL);
+        Thread.sleep(150);
+        store.evictIdleBuckets();
+
+        assertThat(meterRegistry.get("rate_limit.keys").gauge().value()).isEqualTo(1);
+    }
+}
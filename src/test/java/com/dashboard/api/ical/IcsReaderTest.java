@@ -0,0 +1,193 @@
+// src/test/java/com/dashboard/api/ical/IcsReaderTest.java
+package com.dashboard.api.ical;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IcsReaderTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+    @Test
+    void readsEventPropertiesAndUnfoldsLines() {
+        IcsEvent event = readOne("""
+                BEGIN:VEVENT
+                UID:abc-1
+                DTSTART:20250310T090000
+                DTEND:20250310T100000
+                SUMMARY:Quarterly review with a summary long enough to be fo
+                 lded over two lines
+                DESCRIPTION:Agenda:\\n1. Numbers\\, plans\\; risks
+                LOCATION:Room 4\\\\B
+                CATEGORIES:WORK,MEETING
+                PRIORITY:2
+                X-DASHFORGE-COLOR:#ff0000
+                ATTENDEE;CN=Ann:mailto:ann@example.com
+                ATTENDEE;CN="Bob, external":invalid:nomail
+                END:VEVENT
+                """);
+
+        assertThat(event.uid()).isEqualTo("abc-1");
+        assertThat(event.summary()).isEqualTo("Quarterly review with a summary long enough to be folded over two lines");
+        assertThat(event.description()).isEqualTo("Agenda:\n1. Numbers, plans; risks");
+        assertThat(event.location()).isEqualTo("Room 4\\B");
+        assertThat(event.category()).isEqualTo("WORK");
+        assertThat(event.priority()).isEqualTo(2);
+        assertThat(event.color()).isEqualTo("#ff0000");
+        assertThat(event.attendees()).containsExactly("ann@example.com", "Bob, external");
+        assertThat(event.start()).isEqualTo(LocalDateTime.of(2025, 3, 10, 9, 0));
+        assertThat(event.end()).isEqualTo(LocalDateTime.of(2025, 3, 10, 10, 0));
+        assertThat(event.allDay()).isFalse();
+    }
+
+    @Test
+    void convertsUtcAndTzidTimesToTheServerZone() {
+        IcsEvent event = readOne("""
+                BEGIN:VEVENT
+                DTSTART:20250715T080000Z
+                DTEND;TZID=America/New_York:20250715T060000
+                END:VEVENT
+                """);
+
+        // CEST is UTC+2; New York is UTC-4 in July
+        assertThat(event.start()).isEqualTo(LocalDateTime.of(2025, 7, 15, 10, 0));
+        assertThat(event.end()).isEqualTo(LocalDateTime.of(2025, 7, 15, 12, 0));
+    }
+
+    @Test
+    void keepsUnknownTimeZonesAsFloatingTime() {
+        IcsEvent event = readOne("""
+                BEGIN:VEVENT
+                DTSTART;TZID=Eastern Standard Time:20250715T080000
+                DURATION:PT45M
+                END:VEVENT
+                """);
+
+        assertThat(event.start()).isEqualTo(LocalDateTime.of(2025, 7, 15, 8, 0));
+        assertThat(event.end()).isEqualTo(LocalDateTime.of(2025, 7, 15, 8, 45));
+    }
+
+    @Test
+    void readsDateOnlyEventsAndWeekDurations() {
+        List<IcsEvent> events = readAll("""
+                BEGIN:VEVENT
+                DTSTART;VALUE=DATE:20250401
+                END:VEVENT
+                BEGIN:VEVENT
+                DTSTART:20250402
+                DURATION:P2W
+                END:VEVENT
+                """);
+
+        assertThat(events.get(0).allDay()).isTrue();
+        assertThat(events.get(0).start()).isEqualTo(LocalDateTime.of(2025, 4, 1, 0, 0));
+        assertThat(events.get(0).end()).isEqualTo(LocalDateTime.of(2025, 4, 2, 0, 0));
+        assertThat(events.get(1).allDay()).isTrue();
+        assertThat(events.get(1).end()).isEqualTo(LocalDateTime.of(2025, 4, 16, 0, 0));
+    }
+
+    @Test
+    void readsATimedEventWithoutEndOrDurationAsZeroLength() {
+        IcsEvent event = readOne("""
+                BEGIN:VEVENT
+                UID:reminder
+                DTSTART:20250310T090000
+                END:VEVENT
+                """);
+
+        // RFC 5545 semantics; the import rejects events that do not end after they start
+        assertThat(event.allDay()).isFalse();
+        assertThat(event.end()).isEqualTo(event.start());
+    }
+
+    @Test
+    void readsRecurrenceAndIgnoresNestedComponents() {
+        IcsEvent event = readOne("""
+                BEGIN:VCALENDAR
+                BEGIN:VTIMEZONE
+                TZID:Europe/Berlin
+                END:VTIMEZONE
+                BEGIN:VEVENT
+                DTSTART:20250106T090000
+                DTEND:20250106T093000
+                RRULE:FREQ=WEEKLY;BYDAY=MO,WE
+                EXDATE:20250108T090000,20250113T090000
+                EXDATE:20250115T090000
+                BEGIN:VALARM
+                TRIGGER:-PT15M
+                DESCRIPTION:Not the event's description
+                END:VALARM
+                END:VEVENT
+                END:VCALENDAR
+                """);
+
+        assertThat(event.recurrenceRule()).isEqualTo("FREQ=WEEKLY;BYDAY=MO,WE");
+        assertThat(event.excludedStarts()).containsExactly(LocalDateTime.of(2025, 1, 8, 9, 0),
+                LocalDateTime.of(2025, 1, 13, 9, 0), LocalDateTime.of(2025, 1, 15, 9, 0));
+        assertThat(event.description()).isNull();
+    }
+
+    @Test
+    void reportsABadEventAndCarriesOnWithTheNext() {
+        IcsReader reader = reader("""
+                BEGIN:VEVENT
+                SUMMARY:No start
+                END:VEVENT
+                BEGIN:VEVENT
+                DTSTART:2025-01-01
+                END:VEVENT
+                BEGIN:VEVENT
+                DTSTART:20250101T090000
+                PRIORITY:high
+                END:VEVENT
+                BEGIN:VEVENT
+                SUMMARY:Fine
+                DTSTART:20250101T090000
+                END:VEVENT
+                """);
+
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 1").hasMessageContaining("DTSTART");
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("line 4");
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("line 7");
+        assertThat(reader.next().summary()).isEqualTo("Fine");
+        assertThat(reader.hasNext()).isFalse();
+    }
+
+    @Test
+    void keepsATruncatedLastEventAndSkipsGarbageLines() {
+        List<IcsEvent> events = readAll("""
+                this is not iCalendar
+                BEGIN:VEVENT
+                no colon here
+                SUMMARY:Cut off
+                DTSTART:20250101T090000
+                """);
+
+        assertThat(events).extracting(IcsEvent::summary).containsExactly("Cut off");
+    }
+
+    private static IcsEvent readOne(String ics) {
+        List<IcsEvent> events = readAll(ics);
+        assertThat(events).hasSize(1);
+        return events.get(0);
+    }
+
+    private static List<IcsEvent> readAll(String ics) {
+        List<IcsEvent> events = new ArrayList<>();
+        reader(ics).forEachRemaining(events::add);
+        return events;
+    }
+
+    private static IcsReader reader(String ics) {
+        return new IcsReader(new StringReader(ics.replace("\n", "\r\n")), ZONE);
+    }
+}
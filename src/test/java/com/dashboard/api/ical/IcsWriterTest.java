@@ -0,0 +1,90 @@
+// src/test/java/com/dashboard/api/ical/IcsWriterTest.java
+package com.dashboard.api.ical;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcsWriterTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+    @Test
+    void roundTripsEventsThroughTheReader() throws IOException {
+        IcsEvent timed = new IcsEvent("uid-1", "Planning; part 2, with \"quotes\"", "Line one\nLine two \\ end",
+                "Café Zürich, 2nd floor", LocalDateTime.of(2025, 3, 10, 9, 0), LocalDateTime.of(2025, 3, 10, 10, 30),
+                false, List.of("ann@example.com", "Bob \"the builder\""), "WORK", 3, "#00ff00",
+                "FREQ=WEEKLY;BYDAY=MO", List.of(LocalDateTime.of(2025, 3, 17, 9, 0)), null,
+                LocalDateTime.of(2025, 1, 1, 12, 0), LocalDateTime.of(2025, 2, 1, 12, 0));
+        IcsEvent allDay = new IcsEvent("uid-2", null, null, null, LocalDateTime.of(2025, 4, 1, 0, 0),
+                LocalDateTime.of(2025, 4, 3, 0, 0), true, List.of(), null, null, null, null, List.of(),
+                null, null, null);
+
+        List<IcsEvent> read = readBack(write(timed, allDay));
+
+        IcsEvent first = read.get(0);
+        assertThat(first.uid()).isEqualTo("uid-1");
+        assertThat(first.summary()).isEqualTo(timed.summary());
+        assertThat(first.description()).isEqualTo(timed.description());
+        assertThat(first.location()).isEqualTo(timed.location());
+        assertThat(first.start()).isEqualTo(timed.start());
+        assertThat(first.end()).isEqualTo(timed.end());
+        assertThat(first.allDay()).isFalse();
+        assertThat(first.attendees()).containsExactly("ann@example.com", "Bob 'the builder'");
+        assertThat(first.category()).isEqualTo("WORK");
+        assertThat(first.priority()).isEqualTo(3);
+        assertThat(first.color()).isEqualTo("#00ff00");
+        assertThat(first.recurrenceRule()).isEqualTo("FREQ=WEEKLY;BYDAY=MO");
+        assertThat(first.excludedStarts()).isEqualTo(timed.excludedStarts());
+        assertThat(first.created()).isEqualTo(timed.created());
+        assertThat(first.lastModified()).isEqualTo(timed.lastModified());
+
+        IcsEvent second = read.get(1);
+        assertThat(second.allDay()).isTrue();
+        assertThat(second.start()).isEqualTo(allDay.start());
+        assertThat(second.end()).isEqualTo(allDay.end());
+        assertThat(second.summary()).isEmpty();
+    }
+
+    @Test
+    void foldsLongLinesAtSeventyFiveOctetsWithoutSplittingCharacters() throws IOException {
+        String summary = "Ünïcödé ".repeat(30) + "✓ done";
+        IcsEvent event = new IcsEvent("uid-3", summary, null, null, LocalDateTime.of(2025, 1, 1, 9, 0),
+                LocalDateTime.of(2025, 1, 1, 10, 0), false, List.of(), null, null, null, null, List.of(),
+                null, null, null);
+
+        String ics = write(event);
+
+        for (String line : ics.split("\r\n")) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).as(line).isLessThanOrEqualTo(75);
+        }
+        assertThat(ics).contains("\r\n ");
+        assertThat(readBack(ics).get(0).summary()).isEqualTo(summary);
+    }
+
+    private static String write(IcsEvent... events) throws IOException {
+        StringWriter out = new StringWriter();
+        IcsWriter writer = new IcsWriter(out, ZONE);
+        writer.begin();
+        for (IcsEvent event : events) {
+            writer.write(event);
+        }
+        writer.end();
+        return out.toString();
+    }
+
+    private static List<IcsEvent> readBack(String ics) {
+        List<IcsEvent> events = new ArrayList<>();
+        new IcsReader(new StringReader(ics), ZONE).forEachRemaining(events::add);
+        return events;
+    }
+}
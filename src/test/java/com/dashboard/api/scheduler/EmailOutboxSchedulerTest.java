@@ -0,0 +1,38 @@
+// src/test/java/com/dashboard/api/scheduler/EmailOutboxSchedulerTest.java
+package com.dashboard.api.scheduler;
+
+import com.dashboard.api.service.EmailOutboxService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailOutboxSchedulerTest {
+
+    private final EmailOutboxService emailOutboxService = mock(EmailOutboxService.class);
+    private final EmailOutboxScheduler scheduler =
+            new EmailOutboxScheduler(emailOutboxService, mock(ClusterJobRunner.class));
+
+    @Test
+    void drainsUntilNothingIsDue() {
+        ReflectionTestUtils.setField(scheduler, "maxBatchesPerPoll", 10);
+        when(emailOutboxService.dispatchDueMessages()).thenReturn(20, 20, 3, 0);
+
+        scheduler.dispatchQueuedEmails();
+
+        verify(emailOutboxService, times(4)).dispatchDueMessages();
+    }
+
+    @Test
+    void stopsAfterTheBatchCapSoOtherJobsGetTheThread() {
+        ReflectionTestUtils.setField(scheduler, "maxBatchesPerPoll", 3);
+        when(emailOutboxService.dispatchDueMessages()).thenReturn(20);
+
+        scheduler.dispatchQueuedEmails();
+
+        verify(emailOutboxService, times(3)).dispatchDueMessages();
+    }
+}
@@ -0,0 +1,76 @@
+// src/test/java/com/dashboard/api/security/JwtUtilsTest.java
+package com.dashboard.api.security;
+
+import com.dashboard.api.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtUtils jwtUtils = new JwtUtils(meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret",
+                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        ReflectionTestUtils.setField(jwtUtils, "accessTokenExpirationMs", 900_000L);
+        ReflectionTestUtils.setField(jwtUtils, "claimsCacheMaxEntries", 10);
+        jwtUtils.init();
+    }
+
+    @Test
+    void answersRepeatVerificationsFromTheCache() {
+        String token = jwtUtils.generateAccessToken(user("ann@example.com"), "jti-1");
+
+        Claims first = jwtUtils.parseClaims(token);
+        Claims second = jwtUtils.parseClaims(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getSubject()).isEqualTo("ann@example.com");
+        assertThat(first.getId()).isEqualTo("jti-1");
+        assertThat(cacheCount("miss")).isEqualTo(1);
+        assertThat(cacheCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void stillRejectsATamperedSignature() {
+        String token = jwtUtils.generateAccessToken(user("ann@example.com"), "jti-1");
+        jwtUtils.parseClaims(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtUtils.parseClaims(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void staysWithinItsBound() {
+        for (int i = 0; i < 100; i++) {
+            jwtUtils.parseClaims(jwtUtils.generateAccessToken(user("user" + i + "@example.com"), "jti-" + i));
+        }
+
+        assertThat(meterRegistry.get("jwt.claims.cache.size").gauge().value()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void validatesClaimsAgainstTheLoadedUser() {
+        Claims claims = jwtUtils.parseClaims(jwtUtils.generateAccessToken(user("ann@example.com"), "jti-1"));
+
+        assertThat(jwtUtils.validateClaims(claims, user("ann@example.com"))).isTrue();
+        assertThat(jwtUtils.validateClaims(claims, user("bob@example.com"))).isFalse();
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get("jwt.claims.cache").tag("result", result).counter().count();
+    }
+
+    private static User user(String email) {
+        return User.builder().email(email).build();
+    }
+}
@@ -0,0 +1,74 @@
+// src/test/java/com/dashboard/api/security/RevokedTokenBloomFilterTest.java
+package com.dashboard.api.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedTokenBloomFilterTest {
+
+    @Test
+    void neverForgetsAnAddedId() {
+        RevokedTokenBloomFilter filter = new RevokedTokenBloomFilter(10_000, 0.01);
+        List<String> ids = randomIds(10_000);
+        ids.forEach(filter::add);
+
+        assertThat(ids).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void keepsFalsePositivesNearTheConfiguredRate() {
+        RevokedTokenBloomFilter filter = new RevokedTokenBloomFilter(10_000, 0.01);
+        randomIds(10_000).forEach(filter::add);
+
+        long falsePositives = randomIds(100_000).stream().filter(filter::mightContain).count();
+
+        // 1% expected; allow for hashing and sampling noise
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void startsEmpty() {
+        RevokedTokenBloomFilter filter = new RevokedTokenBloomFilter(100, 0.01);
+
+        assertThat(randomIds(1_000)).noneMatch(filter::mightContain);
+    }
+
+    @Test
+    void keepsEveryIdAddedConcurrently() throws Exception {
+        RevokedTokenBloomFilter filter = new RevokedTokenBloomFilter(40_000, 0.01);
+        List<List<String>> batches = List.of(randomIds(10_000), randomIds(10_000), randomIds(10_000), randomIds(10_000));
+
+        ExecutorService executor = Executors.newFixedThreadPool(batches.size());
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (List<String> batch : batches) {
+                done.add(executor.submit(() -> batch.forEach(filter::add)));
+            }
+            for (Future<?> future : done) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (List<String> batch : batches) {
+            assertThat(batch).allMatch(filter::mightContain);
+        }
+    }
+
+    private static List<String> randomIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,215 @@
+// src/test/java/com/dashboard/api/service/impl/AgendaServiceImplTest.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.dto.response.AgendaItemResponse;
+import com.dashboard.api.dto.response.AgendaPageResponse;
+import com.dashboard.api.dto.response.EventResponse;
+import com.dashboard.api.entity.CalendarEvent;
+import com.dashboard.api.entity.Todo;
+import com.dashboard.api.entity.User;
+import com.dashboard.api.exception.ValidationException;
+import com.dashboard.api.mapper.CalendarEventMapper;
+import com.dashboard.api.mapper.TodoMapper;
+import com.dashboard.api.repository.CalendarEventRepository;
+import com.dashboard.api.repository.TodoRepository;
+import com.dashboard.api.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AgendaServiceImplTest {
+
+    private static final String USER_ID = "user-1";
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 10);
+    private static final LocalDate TO = FROM.plusDays(2);
+
+    private final CalendarEventRepository eventRepository = mock(CalendarEventRepository.class);
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final CalendarEventMapper eventMapper = mock(CalendarEventMapper.class);
+    private final UserService userService = mock(UserService.class);
+    private final AgendaServiceImpl service = new AgendaServiceImpl(eventRepository, todoRepository,
+            new RecurrenceExpander(eventRepository), eventMapper, new TodoMapper(), userService);
+
+    private final List<CalendarEvent> events = new ArrayList<>();
+    private final List<Todo> todos = new ArrayList<>();
+    private final List<CalendarEvent> series = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().email("user@example.com").build();
+        user.setId(USER_ID);
+        when(userService.getCurrentUser()).thenReturn(user);
+        when(eventMapper.toResponse(any())).thenAnswer(invocation -> {
+            CalendarEvent event = invocation.getArgument(0);
+            return EventResponse.builder().id(event.getId()).startTime(event.getStartTime()).build();
+        });
+        // The keyset queries, run against the lists above
+        when(eventRepository.findAgendaPageByUser(eq(USER_ID), any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime afterTime = invocation.getArgument(1);
+            String afterId = invocation.getArgument(2);
+            LocalDateTime to = invocation.getArgument(3);
+            return events.stream()
+                    .filter(event -> !event.getStartTime().isBefore(afterTime) && event.getStartTime().isBefore(to))
+                    .filter(event -> event.getStartTime().isAfter(afterTime)
+                            || afterId != null && event.getId().compareTo(afterId) > 0)
+                    .sorted(Comparator.comparing(CalendarEvent::getStartTime).thenComparing(CalendarEvent::getId))
+                    .limit(invocation.<Integer>getArgument(4))
+                    .toList();
+        });
+        when(todoRepository.findAgendaPageByUser(eq(USER_ID), any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            LocalDate afterDate = invocation.getArgument(1);
+            String afterId = invocation.getArgument(2);
+            LocalDate to = invocation.getArgument(3);
+            return todos.stream()
+                    .filter(todo -> !todo.getDueDate().isBefore(afterDate) && todo.getDueDate().isBefore(to))
+                    .filter(todo -> todo.getDueDate().isAfter(afterDate)
+                            || afterId != null && todo.getId().compareTo(afterId) > 0)
+                    .sorted(Comparator.comparing(Todo::getDueDate).thenComparing(Todo::getId))
+                    .limit(invocation.<Integer>getArgument(4))
+                    .toList();
+        });
+        when(eventRepository.findSeriesOverlapping(eq(USER_ID), any(), any())).thenAnswer(invocation -> series);
+    }
+
+    @Test
+    void mergesTodosEventsAndOccurrencesByTimeThenTypeThenId() {
+        event("e-b", FROM.atTime(9, 0));
+        event("e-a", FROM.atTime(9, 0));
+        event("e-midnight", FROM.plusDays(1).atStartOfDay());
+        todo("t-2", FROM.plusDays(1));
+        todo("t-1", FROM);
+        dailySeries("s-1", FROM.atTime(8, 0), Set.of(FROM.plusDays(1).atTime(8, 0)));
+
+        AgendaPageResponse page = service.getAgenda(FROM, TO, 100, null);
+
+        assertThat(keys(page.getItems())).containsExactly(
+                "TODO t-1 2025-03-10T00:00",
+                "EVENT s-1 2025-03-10T08:00",
+                "EVENT e-a 2025-03-10T09:00",
+                "EVENT e-b 2025-03-10T09:00",
+                "TODO t-2 2025-03-11T00:00",
+                "EVENT e-midnight 2025-03-11T00:00",
+                "EVENT s-1 2025-03-12T08:00");
+        assertThat(page.getNextToken()).isNull();
+    }
+
+    @Test
+    void pagesThroughEveryItemExactlyOnce() {
+        for (int i = 0; i < 5; i++) {
+            event("e-" + i, FROM.atTime(9, 0));
+            event("m-" + i, FROM.plusDays(1).atStartOfDay());
+            todo("t-" + i, FROM.plusDays(1));
+        }
+        event("e-late", TO.atTime(23, 59));
+        dailySeries("s-1", FROM.atTime(9, 0), Set.of());
+        List<String> everything = keys(service.getAgenda(FROM, TO, 100, null).getItems());
+
+        for (int limit = 1; limit <= 4; limit++) {
+            List<String> paged = new ArrayList<>();
+            String token = null;
+            do {
+                AgendaPageResponse page = service.getAgenda(FROM, TO, limit, token);
+                assertThat(page.getItems()).hasSizeLessThanOrEqualTo(limit);
+                paged.addAll(keys(page.getItems()));
+                token = page.getNextToken();
+            } while (token != null);
+
+            assertThat(paged).as("limit %d", limit).isEqualTo(everything);
+        }
+        assertThat(everything).hasSize(19);
+    }
+
+    @Test
+    void leavesTheTokenOffWhenAFullPageIsTheLast() {
+        event("e-1", FROM.atTime(9, 0));
+        event("e-2", FROM.atTime(10, 0));
+
+        AgendaPageResponse first = service.getAgenda(FROM, TO, 1, null);
+        AgendaPageResponse last = service.getAgenda(FROM, TO, 1, first.getNextToken());
+
+        assertThat(first.getNextToken()).isNotNull();
+        assertThat(keys(last.getItems())).containsExactly("EVENT e-2 2025-03-10T10:00");
+        assertThat(last.getNextToken()).isNull();
+    }
+
+    @Test
+    void startsAtFromWhenTheTokenIsEarlier() {
+        event("e-old", FROM.minusDays(1).atTime(9, 0));
+        event("e-1", FROM.atTime(9, 0));
+        todo("t-1", FROM);
+        String earlier = token(FROM.minusDays(1).atTime(9, 0) + "|EVENT|e-old");
+
+        AgendaPageResponse page = service.getAgenda(FROM, TO, 10, earlier);
+
+        assertThat(keys(page.getItems())).containsExactly("TODO t-1 2025-03-10T00:00", "EVENT e-1 2025-03-10T09:00");
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        for (String token : List.of("%%%", token("2025-03-10T09:00|EVENT|"), token("2025-03-10T09:00|MEETING|e-1"),
+                token("yesterday|EVENT|e-1"), token("2025-03-10T09:00|EVENT"))) {
+            assertThatThrownBy(() -> service.getAgenda(FROM, TO, 10, token))
+                    .as(token)
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Invalid continuation token");
+        }
+    }
+
+    @Test
+    void rejectsALimitOutsideTheAllowedRange() {
+        assertThatThrownBy(() -> service.getAgenda(FROM, TO, 0, null)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.getAgenda(FROM, TO, 501, null)).isInstanceOf(ValidationException.class);
+    }
+
+    private void event(String id, LocalDateTime start) {
+        CalendarEvent event = CalendarEvent.builder().title(id).startTime(start).endTime(start.plusHours(1)).build();
+        event.setId(id);
+        events.add(event);
+    }
+
+    private void todo(String id, LocalDate dueDate) {
+        Todo todo = Todo.builder().title(id).dueDate(dueDate).build();
+        todo.setId(id);
+        todos.add(todo);
+    }
+
+    private void dailySeries(String id, LocalDateTime start, Set<LocalDateTime> excludedStarts) {
+        CalendarEvent event = CalendarEvent.builder()
+                .title(id)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .recurrenceRule("FREQ=DAILY")
+                .excludedStarts(excludedStarts)
+                .build();
+        event.setId(id);
+        series.add(event);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> keys(List<AgendaItemResponse> items) {
+        return items.stream()
+                .map(item -> item.getType() + " "
+                        + (item.getEvent() != null ? item.getEvent().getId() : item.getTodo().getId()) + " "
+                        + item.getAt())
+                .toList();
+    }
+}
@@ -0,0 +1,162 @@
+// src/test/java/com/dashboard/api/service/impl/AvailabilityServiceImplTest.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.dto.request.FindSlotsRequest;
+import com.dashboard.api.dto.response.AvailableSlotResponse;
+import com.dashboard.api.entity.User;
+import com.dashboard.api.exception.ValidationException;
+import com.dashboard.api.repository.UserRepository;
+import com.dashboard.api.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AvailabilityServiceImplTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 10, 0, 0);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserService userService = mock(UserService.class);
+    private final BusySlotCache busySlotCache = mock(BusySlotCache.class);
+    private final AvailabilityServiceImpl service = new AvailabilityServiceImpl(mock(RecurrenceExpander.class),
+            userRepository, userService, busySlotCache, new SimpleAsyncTaskExecutor("availability-test-"),
+            mock(PlatformTransactionManager.class), 62);
+
+    private final User me = user("me");
+    private final User colleague = user("colleague");
+
+    @BeforeEach
+    void setUp() {
+        when(userService.getCurrentUser()).thenReturn(me);
+        busy(me);
+    }
+
+    @Test
+    void skipsGapsTooShortForTheMeeting() {
+        busy(me, MONDAY.withHour(9), MONDAY.withHour(9).withMinute(30), MONDAY.withHour(10), MONDAY.withHour(11));
+
+        List<AvailableSlotResponse> slots = service.findAvailableSlots(request(MONDAY, MONDAY.plusDays(1), 60, 1));
+
+        assertThat(starts(slots)).containsExactly(MONDAY.withHour(11));
+        assertThat(slots.get(0).getEndTime()).isEqualTo(MONDAY.withHour(12));
+    }
+
+    @Test
+    void packsSeveralSlotsIntoOneLongRun() {
+        List<AvailableSlotResponse> slots = service.findAvailableSlots(request(MONDAY, MONDAY.plusDays(1), 60, 3));
+
+        assertThat(starts(slots)).containsExactly(MONDAY.withHour(9), MONDAY.withHour(10), MONDAY.withHour(11));
+    }
+
+    @Test
+    void roundsTheDurationUpToWholeCellsButReportsTheRequestedLength() {
+        List<AvailableSlotResponse> slots = service.findAvailableSlots(request(MONDAY, MONDAY.plusDays(1), 50, 2));
+
+        assertThat(starts(slots)).containsExactly(MONDAY.withHour(9), MONDAY.withHour(10));
+        assertThat(slots.get(0).getEndTime()).isEqualTo(MONDAY.withHour(9).withMinute(50));
+    }
+
+    @Test
+    void onlyOffersTimeWhenEveryParticipantIsFree() {
+        when(userRepository.findByEmailInAndShareFreeBusyTrue(List.of(colleague.getEmail())))
+                .thenReturn(List.of(colleague));
+        busy(me, MONDAY.withHour(9), MONDAY.withHour(10));
+        busy(colleague, MONDAY.withHour(10), MONDAY.withHour(12), MONDAY.withHour(13), MONDAY.withHour(17));
+        FindSlotsRequest request = request(MONDAY, MONDAY.plusDays(1), 60, 5);
+        request.setParticipants(List.of(colleague.getEmail(), me.getEmail()));
+
+        List<AvailableSlotResponse> slots = service.findAvailableSlots(request);
+
+        assertThat(starts(slots)).containsExactly(MONDAY.withHour(12));
+    }
+
+    @Test
+    void rejectsParticipantsWhoDoNotShareTheirAvailability() {
+        // Unregistered and not sharing look the same: neither comes back from the lookup
+        when(userRepository.findByEmailInAndShareFreeBusyTrue(any())).thenReturn(List.of(colleague));
+        FindSlotsRequest request = request(MONDAY, MONDAY.plusDays(1), 60, 1);
+        request.setParticipants(List.of(colleague.getEmail(), "private@example.com", "nobody@example.com"));
+
+        assertThatThrownBy(() -> service.findAvailableSlots(request))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("These participants do not share their availability: private@example.com, nobody@example.com");
+        verify(busySlotCache, never()).busyCells(eq(colleague.getId()), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void leavesOutWeekendsAndTimeOutsideTheWindow() {
+        LocalDateTime fridayAfternoon = MONDAY.minusDays(3).withHour(15).withMinute(30);
+
+        List<AvailableSlotResponse> slots = service.findAvailableSlots(
+                request(fridayAfternoon, MONDAY.withHour(10).withMinute(30), 60, 5));
+
+        assertThat(starts(slots)).containsExactly(fridayAfternoon, MONDAY.withHour(9));
+    }
+
+    @Test
+    void returnsFewerSlotsWhenTheWindowRunsOut() {
+        busy(me, MONDAY.withHour(9), MONDAY.withHour(16));
+
+        List<AvailableSlotResponse> slots = service.findAvailableSlots(request(MONDAY, MONDAY.plusDays(1), 30, 5));
+
+        assertThat(starts(slots)).containsExactly(MONDAY.withHour(16), MONDAY.withHour(16).withMinute(30));
+    }
+
+    @Test
+    void rejectsAWindowLongerThanTheLimit() {
+        assertThatThrownBy(() -> service.findAvailableSlots(request(MONDAY, MONDAY.plusDays(63), 30, 1)))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    // Serves the user's busy cells from the cache as [start, end) pairs on a 15-minute grid
+    private void busy(User user, LocalDateTime... bounds) {
+        when(busySlotCache.busyCells(eq(user.getId()), any(), eq(15), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime origin = invocation.getArgument(1);
+            BitSet cells = new BitSet(invocation.<Integer>getArgument(3));
+            for (int i = 0; i < bounds.length; i += 2) {
+                cells.set(cell(origin, bounds[i]), cell(origin, bounds[i + 1]));
+            }
+            return Optional.of(cells);
+        });
+    }
+
+    private static int cell(LocalDateTime origin, LocalDateTime time) {
+        return (int) (Duration.between(origin, time).toMinutes() / 15);
+    }
+
+    private static FindSlotsRequest request(LocalDateTime from, LocalDateTime to, int durationMinutes, int count) {
+        return FindSlotsRequest.builder()
+                .from(from)
+                .to(to)
+                .durationMinutes(durationMinutes)
+                .count(count)
+                .build();
+    }
+
+    private static User user(String name) {
+        User user = User.builder().email(name + "@example.com").build();
+        user.setId(name);
+        return user;
+    }
+
+    private static List<LocalDateTime> starts(List<AvailableSlotResponse> slots) {
+        return slots.stream().map(AvailableSlotResponse::getStartTime).toList();
+    }
+}
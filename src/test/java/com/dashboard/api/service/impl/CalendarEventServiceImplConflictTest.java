@@ -0,0 +1,170 @@
+// src/test/java/com/dashboard/api/service/impl/CalendarEventServiceImplConflictTest.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.dto.request.BatchConflictRequest;
+import com.dashboard.api.dto.request.TimeSlotRequest;
+import com.dashboard.api.dto.response.EventResponse;
+import com.dashboard.api.dto.response.SlotConflictsResponse;
+import com.dashboard.api.entity.CalendarEvent;
+import com.dashboard.api.entity.User;
+import com.dashboard.api.exception.ValidationException;
+import com.dashboard.api.mapper.CalendarEventMapper;
+import com.dashboard.api.repository.CalendarEventRepository;
+import com.dashboard.api.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CalendarEventServiceImplConflictTest {
+
+    private static final String USER_ID = "user-1";
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 10, 0, 0);
+
+    private final CalendarEventRepository eventRepository = mock(CalendarEventRepository.class);
+    private final CalendarEventMapper eventMapper = mock(CalendarEventMapper.class);
+    private final UserService userService = mock(UserService.class);
+    private final BusySlotCache busySlotCache = mock(BusySlotCache.class);
+    private final RecurrenceExpander recurrenceExpander = mock(RecurrenceExpander.class);
+    private final CalendarViewCache viewCache = mock(CalendarViewCache.class);
+    private final CalendarEventServiceImpl service = new CalendarEventServiceImpl(
+            eventRepository, eventMapper, userService, busySlotCache, recurrenceExpander, viewCache);
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().email("user@example.com").build();
+        user.setId(USER_ID);
+        when(userService.getCurrentUser()).thenReturn(user);
+        when(eventMapper.toResponse(any())).thenAnswer(invocation -> {
+            CalendarEvent event = invocation.getArgument(0);
+            return EventResponse.builder().id(event.getId()).startTime(event.getStartTime()).build();
+        });
+    }
+
+    @Test
+    void reportsEachSlotsOverlapsInInputOrder() {
+        returnEvents(
+                event("early", 8, 0, 9, 0),
+                event("long", 9, 30, 13, 0),
+                event("noon", 12, 0, 12, 30),
+                event("late", 16, 0, 17, 0));
+
+        List<SlotConflictsResponse> result = service.getConflictingEvents(request(null,
+                slot(15, 30, 16, 30),
+                slot(8, 30, 10, 0),
+                slot(12, 15, 12, 45),
+                slot(14, 0, 15, 0)));
+
+        assertThat(ids(result.get(0))).containsExactly("late");
+        assertThat(ids(result.get(1))).containsExactly("early", "long");
+        assertThat(ids(result.get(2))).containsExactly("long", "noon");
+        assertThat(ids(result.get(3))).isEmpty();
+        assertThat(result.get(0).getStartTime()).isEqualTo(at(15, 30));
+        assertThat(result.get(1).getEndTime()).isEqualTo(at(10, 0));
+    }
+
+    @Test
+    void treatsTouchingIntervalsAsFree() {
+        returnEvents(event("before", 9, 0, 10, 0), event("after", 11, 0, 12, 0));
+
+        List<SlotConflictsResponse> result = service.getConflictingEvents(request(null, slot(10, 0, 11, 0)));
+
+        assertThat(ids(result.get(0))).isEmpty();
+    }
+
+    @Test
+    void handsTheSameEventToEveryOverlappingSlot() {
+        returnEvents(event("workshop", 9, 0, 17, 0));
+
+        List<SlotConflictsResponse> result = service.getConflictingEvents(request(null,
+                slot(9, 0, 10, 0), slot(9, 30, 10, 30), slot(16, 0, 18, 0)));
+
+        assertThat(result).allSatisfy(slot -> assertThat(ids(slot)).containsExactly("workshop"));
+        // Mapped once and shared between the slots
+        verify(eventMapper).toResponse(any());
+    }
+
+    @Test
+    void mergesSeriesOccurrencesAndIgnoresTheEventBeingRescheduled() {
+        CalendarEvent occurrence = event("series", 10, 0, 11, 0);
+        when(eventRepository.findOverlappingByUser(eq(USER_ID), any(), any()))
+                .thenReturn(new ArrayList<>(List.of(event("moving", 9, 0, 10, 30), event("other", 10, 45, 11, 30))));
+        when(recurrenceExpander.occurrencesOverlapping(eq(USER_ID), any(), any())).thenReturn(List.of(occurrence));
+
+        List<SlotConflictsResponse> result = service.getConflictingEvents(request("moving", slot(9, 0, 11, 0)));
+
+        assertThat(ids(result.get(0))).containsExactly("series", "other");
+    }
+
+    @Test
+    void queriesTheWindowSpanningEverySlot() {
+        returnEvents();
+
+        service.getConflictingEvents(request(null, slot(13, 0, 14, 0), slot(8, 0, 9, 0), slot(10, 0, 18, 0)));
+
+        verify(eventRepository).findOverlappingByUser(USER_ID, at(8, 0), at(18, 0));
+    }
+
+    @Test
+    void skipsTheQueryWhenTheBusyCacheSaysEverySlotIsFree() {
+        when(busySlotCache.isFree(eq(USER_ID), any(), any())).thenReturn(true);
+
+        List<SlotConflictsResponse> result = service.getConflictingEvents(request(null, slot(9, 0, 10, 0)));
+
+        assertThat(result.get(0).getConflicts()).isEmpty();
+        verify(eventRepository, never()).findOverlappingByUser(any(), any(), any());
+    }
+
+    @Test
+    void rejectsASlotThatEndsBeforeItStarts() {
+        assertThatThrownBy(() -> service.getConflictingEvents(request(null, slot(9, 0, 10, 0), slot(11, 0, 11, 0))))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private void returnEvents(CalendarEvent... events) {
+        when(eventRepository.findOverlappingByUser(eq(USER_ID), any(), any()))
+                .thenReturn(new ArrayList<>(Arrays.asList(events)));
+        when(recurrenceExpander.occurrencesOverlapping(eq(USER_ID), any(), any())).thenReturn(List.of());
+    }
+
+    private static BatchConflictRequest request(String eventId, TimeSlotRequest... slots) {
+        return BatchConflictRequest.builder().slots(List.of(slots)).eventId(eventId).build();
+    }
+
+    private static TimeSlotRequest slot(int startHour, int startMinute, int endHour, int endMinute) {
+        return TimeSlotRequest.builder()
+                .startTime(at(startHour, startMinute))
+                .endTime(at(endHour, endMinute))
+                .build();
+    }
+
+    private static CalendarEvent event(String id, int startHour, int startMinute, int endHour, int endMinute) {
+        CalendarEvent event = CalendarEvent.builder()
+                .title(id)
+                .startTime(at(startHour, startMinute))
+                .endTime(at(endHour, endMinute))
+                .build();
+        event.setId(id);
+        return event;
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return DAY.withHour(hour).withMinute(minute);
+    }
+
+    private static List<String> ids(SlotConflictsResponse slot) {
+        return slot.getConflicts().stream().map(EventResponse::getId).toList();
+    }
+}
@@ -0,0 +1,130 @@
+// src/test/java/com/dashboard/api/service/impl/EmailOutboxServiceImplTest.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.entity.EmailOutboxMessage;
+import com.dashboard.api.enums.EmailOutboxStatus;
+import com.dashboard.api.mail.SmtpTransportPool;
+import com.dashboard.api.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailOutboxServiceImplTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final EmailOutboxRepository outboxRepository = mock(EmailOutboxRepository.class);
+    private final SmtpTransportPool smtpTransportPool = mock(SmtpTransportPool.class);
+    private EmailOutboxServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EmailOutboxServiceImpl(outboxRepository, smtpTransportPool,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "fromEmail", "noreply@example.com");
+        ReflectionTestUtils.setField(service, "batchSize", 20);
+        ReflectionTestUtils.setField(service, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(service, "initialBackoffMs", 30_000L);
+        ReflectionTestUtils.setField(service, "maxBackoffMs", 3_600_000L);
+        ReflectionTestUtils.setField(service, "leaseMs", 300_000L);
+        ReflectionTestUtils.setField(service, "sentRetentionHours", 24L);
+        ReflectionTestUtils.setField(service, "deadRetentionHours", 168L);
+        when(smtpTransportPool.getSession()).thenReturn(Session.getInstance(new Properties()));
+    }
+
+    @Test
+    void returnsZeroWithoutSendingWhenNothingIsDue() {
+        when(outboxRepository.lockDueMessages(any(), anyInt())).thenReturn(List.of());
+
+        assertThat(service.dispatchDueMessages()).isZero();
+        verify(smtpTransportPool, never()).sendBatch(anyList());
+    }
+
+    @Test
+    void marksDeliveredMessagesSentAndDropsTheirBody() {
+        EmailOutboxMessage message = pending("a@example.com", 0);
+        when(outboxRepository.lockDueMessages(any(), anyInt())).thenReturn(List.of(message));
+        when(smtpTransportPool.sendBatch(anyList())).thenReturn(Arrays.asList((Exception) null));
+
+        assertThat(service.dispatchDueMessages()).isEqualTo(1);
+
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(message.getSentAt()).isNotNull();
+        assertThat(message.getBody()).isEmpty();
+        assertThat(message.getAttempts()).isEqualTo(1);
+        verify(outboxRepository).saveAll(List.of(message));
+    }
+
+    @Test
+    void backsOffFailedMessagesUntilTheyAreDead() {
+        EmailOutboxMessage retried = pending("a@example.com", 0);
+        EmailOutboxMessage lastTry = pending("b@example.com", MAX_ATTEMPTS - 1);
+        when(outboxRepository.lockDueMessages(any(), anyInt())).thenReturn(List.of(retried, lastTry));
+        when(smtpTransportPool.sendBatch(anyList())).thenReturn(List.of(
+                new MessagingException("421 try later"), new MessagingException("550 no such user")));
+
+        LocalDateTime before = LocalDateTime.now();
+        service.dispatchDueMessages();
+
+        assertThat(retried.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(retried.getLastError()).isEqualTo("421 try later");
+        assertThat(retried.getBody()).isEqualTo("Your code is 123456");
+        assertThat(retried.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+
+        assertThat(lastTry.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+        assertThat(lastTry.getLastError()).isEqualTo("550 no such user");
+        assertThat(lastTry.getBody()).isEmpty();
+    }
+
+    @Test
+    void recordsAFailureForEveryMessageWhenThePoolThrows() {
+        EmailOutboxMessage first = pending("a@example.com", 0);
+        EmailOutboxMessage second = pending("b@example.com", 0);
+        when(outboxRepository.lockDueMessages(any(), anyInt())).thenReturn(List.of(first, second));
+        when(smtpTransportPool.sendBatch(anyList())).thenThrow(new IllegalStateException("Not connected"));
+
+        assertThat(service.dispatchDueMessages()).isEqualTo(2);
+
+        assertThat(first.getLastError()).isEqualTo("Not connected");
+        assertThat(second.getLastError()).isEqualTo("Not connected");
+        assertThat(first.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        verify(outboxRepository).saveAll(List.of(first, second));
+    }
+
+    @Test
+    void purgesSentAndDeadMessages() {
+        when(outboxRepository.deleteSentBefore(any())).thenReturn(4);
+        when(outboxRepository.deleteDeadBefore(any())).thenReturn(1);
+
+        assertThat(service.purgeFinishedMessages()).isEqualTo(5);
+    }
+
+    private static EmailOutboxMessage pending(String recipient, int attempts) {
+        return EmailOutboxMessage.builder()
+                .recipient(recipient)
+                .subject("Password reset")
+                .body("Your code is 123456")
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+// src/test/java/com/dashboard/api/service/impl/IcsServiceImplTest.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.dto.response.IcsImportResponse;
+import com.dashboard.api.entity.User;
+import com.dashboard.api.repository.CalendarEventRepository;
+import com.dashboard.api.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IcsServiceImplTest {
+
+    private final UserService userService = mock(UserService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final IcsServiceImpl service = new IcsServiceImpl(mock(CalendarEventRepository.class), userService,
+            jdbcTemplate, mock(BusySlotCache.class), mock(CalendarViewCache.class),
+            mock(PlatformTransactionManager.class), 500);
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().email("user@example.com").build();
+        user.setId("user-1");
+        when(userService.getCurrentUser()).thenReturn(user);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO calendar_events"), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenReturn(new int[][]{{1}});
+    }
+
+    @Test
+    void skipsEventsThatDoNotEndAfterTheyStart() {
+        IcsImportResponse response = service.importEvents(ics("""
+                BEGIN:VCALENDAR
+                BEGIN:VEVENT
+                UID:reminder
+                DTSTART:20250310T090000
+                END:VEVENT
+                BEGIN:VEVENT
+                UID:same-time
+                DTSTART:20250310T090000
+                DTEND:20250310T090000
+                END:VEVENT
+                BEGIN:VEVENT
+                UID:meeting
+                DTSTART:20250310T090000
+                DTEND:20250310T100000
+                END:VEVENT
+                END:VCALENDAR
+                """));
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getSkipped()).isEqualTo(2);
+        assertThat(response.getErrors()).containsExactly(
+                "Event reminder must end after it starts", "Event same-time must end after it starts");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<?>> inserted = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO calendar_events"), inserted.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(inserted.getValue()).hasSize(1);
+    }
+
+    private static ByteArrayInputStream ics(String ics) {
+        return new ByteArrayInputStream(ics.replace("\n", "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
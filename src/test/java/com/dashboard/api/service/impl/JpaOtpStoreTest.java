@@ -0,0 +1,58 @@
+// src/test/java/com/dashboard/api/service/impl/JpaOtpStoreTest.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.entity.Otp;
+import com.dashboard.api.repository.OtpRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JpaOtpStoreTest {
+
+    private static final String EMAIL = "ann@example.com";
+
+    private final OtpRepository otpRepository = mock(OtpRepository.class);
+    private final JpaOtpStore store = new JpaOtpStore(otpRepository);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(store, "maxAttempts", 5);
+        when(otpRepository.findTopByEmailOrderByCreatedAtDesc(EMAIL)).thenReturn(Optional.of(Otp.builder()
+                .email(EMAIL)
+                .otpCode("123456")
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .used(false)
+                .build()));
+    }
+
+    @Test
+    void consumesAVerifiedCodeOnce() {
+        when(otpRepository.markAsUsed(EMAIL, "123456")).thenReturn(1);
+
+        assertThat(store.consume(EMAIL, "123456")).isTrue();
+    }
+
+    @Test
+    void losesToAConcurrentConsumerOfTheSameCode() {
+        // Both requests verified the unused code; the other one's update got the row
+        when(otpRepository.markAsUsed(EMAIL, "123456")).thenReturn(0);
+
+        assertThat(store.consume(EMAIL, "123456")).isFalse();
+    }
+
+    @Test
+    void neverMarksAWrongCode() {
+        assertThat(store.consume(EMAIL, "654321")).isFalse();
+        verify(otpRepository, never()).markAsUsed(anyString(), anyString());
+    }
+}
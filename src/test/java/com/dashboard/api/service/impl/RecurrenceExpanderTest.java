@@ -0,0 +1,132 @@
+// src/test/java/com/dashboard/api/service/impl/RecurrenceExpanderTest.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.entity.CalendarEvent;
+import com.dashboard.api.repository.CalendarEventRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecurrenceExpanderTest {
+
+    private static final String USER_ID = "user-1";
+    // Daily 09:00-10:00 from Monday 6 January 2025
+    private static final LocalDateTime SERIES_START = LocalDateTime.of(2025, 1, 6, 9, 0);
+
+    private final CalendarEventRepository eventRepository = mock(CalendarEventRepository.class);
+    private final RecurrenceExpander expander = new RecurrenceExpander(eventRepository);
+
+    @Test
+    void expandsOnlyTheWindowAndSkipsExcludedStarts() {
+        CalendarEvent series = dailySeries("FREQ=DAILY", Set.of(SERIES_START.plusDays(2)));
+        returnSeries(series);
+
+        List<CalendarEvent> occurrences = expander.occurrencesStarting(USER_ID,
+                SERIES_START.toLocalDate().atStartOfDay(), SERIES_START.plusDays(4).toLocalDate().atStartOfDay());
+
+        assertThat(occurrences).extracting(CalendarEvent::getStartTime).containsExactly(
+                SERIES_START, SERIES_START.plusDays(1), SERIES_START.plusDays(3));
+        CalendarEvent second = occurrences.get(1);
+        assertThat(second.getEndTime()).isEqualTo(SERIES_START.plusDays(1).plusHours(1));
+        assertThat(second.getId()).isEqualTo(series.getId());
+        assertThat(second.getSeriesId()).isEqualTo(series.getId());
+        assertThat(second.getOriginalStartTime()).isEqualTo(second.getStartTime());
+        assertThat(second.getTitle()).isEqualTo("Stand-up");
+    }
+
+    @Test
+    void overlappingIncludesAnOccurrenceStartedBeforeTheWindow() {
+        returnSeries(dailySeries("FREQ=DAILY;COUNT=5", Set.of()));
+        LocalDateTime from = SERIES_START.plusDays(1).plusMinutes(30);
+        LocalDateTime to = SERIES_START.plusDays(2).plusMinutes(30);
+
+        assertThat(expander.occurrencesOverlapping(USER_ID, from, to)).extracting(CalendarEvent::getStartTime)
+                .containsExactly(SERIES_START.plusDays(1), SERIES_START.plusDays(2));
+        assertThat(expander.occurrencesStarting(USER_ID, from, to)).extracting(CalendarEvent::getStartTime)
+                .containsExactly(SERIES_START.plusDays(2));
+        assertThat(expander.countOccurrencesStarting(USER_ID, from, to)).isEqualTo(1);
+    }
+
+    @Test
+    void stopsAtTheSeriesCount() {
+        returnSeries(dailySeries("FREQ=DAILY;COUNT=3", Set.of(SERIES_START)));
+
+        assertThat(expander.countOccurrencesStarting(USER_ID, SERIES_START, SERIES_START.plusDays(30))).isEqualTo(2);
+    }
+
+    @Test
+    void knowsWhichStartsAreLiveOccurrences() {
+        CalendarEvent series = dailySeries("FREQ=DAILY;COUNT=3", Set.of(SERIES_START.plusDays(1)));
+
+        assertThat(expander.hasOccurrenceAt(series, SERIES_START)).isTrue();
+        assertThat(expander.hasOccurrenceAt(series, SERIES_START.plusDays(1))).isFalse();
+        assertThat(expander.hasOccurrenceAt(series, SERIES_START.plusDays(2).plusMinutes(1))).isFalse();
+        assertThat(expander.hasOccurrenceAt(series, SERIES_START.plusDays(3))).isFalse();
+    }
+
+    @Test
+    void mergesOccurrencesIntoTheSingleEventStreamByBusyStart() {
+        returnSeries(dailySeries("FREQ=DAILY;COUNT=2", Set.of()));
+        LocalDateTime from = SERIES_START.toLocalDate().atStartOfDay();
+        LocalDateTime to = from.plusDays(2);
+        when(eventRepository.streamTimeSpansByUser(USER_ID, from, to)).thenReturn(Stream.of(
+                span(SERIES_START.minusHours(1), SERIES_START),
+                // All-day events block from midnight, so this one comes first
+                new Span(SERIES_START.plusDays(1).plusHours(5), SERIES_START.plusDays(1).plusHours(6), true)));
+
+        List<LocalDateTime> starts = new ArrayList<>();
+        expander.forEachBusySpan(USER_ID, from, to, span -> starts.add(span.start()));
+
+        assertThat(starts).containsExactly(SERIES_START.minusHours(1), SERIES_START,
+                SERIES_START.plusDays(1).plusHours(5), SERIES_START.plusDays(1));
+    }
+
+    private void returnSeries(CalendarEvent series) {
+        when(eventRepository.findSeriesOverlapping(eq(USER_ID), any(), any())).thenReturn(List.of(series));
+    }
+
+    private static CalendarEvent dailySeries(String rule, Set<LocalDateTime> excludedStarts) {
+        CalendarEvent series = CalendarEvent.builder()
+                .title("Stand-up")
+                .startTime(SERIES_START)
+                .endTime(SERIES_START.plusHours(1))
+                .recurrenceRule(rule)
+                .excludedStarts(excludedStarts)
+                .build();
+        series.setId("series-1");
+        return series;
+    }
+
+    private static Span span(LocalDateTime start, LocalDateTime end) {
+        return new Span(start, end, false);
+    }
+
+    private record Span(LocalDateTime startTime, LocalDateTime endTime, Boolean allDay)
+            implements CalendarEventRepository.TimeSpan {
+
+        @Override
+        public LocalDateTime getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public LocalDateTime getEndTime() {
+            return endTime;
+        }
+
+        @Override
+        public Boolean getAllDay() {
+            return allDay;
+        }
+    }
+}
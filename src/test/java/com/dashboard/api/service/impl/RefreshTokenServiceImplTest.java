@@ -0,0 +1,133 @@
+// src/test/java/com/dashboard/api/service/impl/RefreshTokenServiceImplTest.java
+package com.dashboard.api.service.impl;
+
+import com.dashboard.api.entity.RefreshToken;
+import com.dashboard.api.entity.RetiredRefreshToken;
+import com.dashboard.api.entity.User;
+import com.dashboard.api.exception.InvalidTokenException;
+import com.dashboard.api.repository.RefreshTokenRepository;
+import com.dashboard.api.repository.RetiredRefreshTokenRepository;
+import com.dashboard.api.security.AccessTokenRevocationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceImplTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final RetiredRefreshTokenRepository retiredRepository = mock(RetiredRefreshTokenRepository.class);
+    private final AccessTokenRevocationStore revocationStore = mock(AccessTokenRevocationStore.class);
+    private final RefreshTokenServiceImpl service = new RefreshTokenServiceImpl(
+            refreshTokenRepository, retiredRepository, revocationStore);
+
+    // Rows of the two tables, with the repository methods the service uses answered from them
+    private final List<RefreshToken> sessions = new ArrayList<>();
+    private final List<RetiredRefreshToken> retired = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "accessTokenExpirationMs", 900_000L);
+        ReflectionTestUtils.setField(service, "refreshTokenExpirationMs", 604_800_000L);
+        ReflectionTestUtils.setField(service, "maxSessionsPerUser", 10);
+
+        when(refreshTokenRepository.save(any())).thenAnswer(invocation -> {
+            RefreshToken session = invocation.getArgument(0);
+            if (session.getId() == null) {
+                session.setId(UUID.randomUUID().toString());
+                sessions.add(session);
+            }
+            return session;
+        });
+        when(refreshTokenRepository.findByTokenHashForUpdate(any())).thenAnswer(invocation -> sessions.stream()
+                .filter(session -> Arrays.equals(session.getTokenHash(), invocation.getArgument(0)))
+                .findFirst());
+        when(refreshTokenRepository.findById(anyString())).thenAnswer(invocation -> sessions.stream()
+                .filter(session -> session.getId().equals(invocation.getArgument(0)))
+                .findFirst());
+        when(retiredRepository.save(any())).thenAnswer(invocation -> {
+            retired.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(retiredRepository.findByTokenHash(any())).thenAnswer(invocation -> retired.stream()
+                .filter(token -> Arrays.equals(token.getTokenHash(), invocation.getArgument(0)))
+                .findFirst());
+    }
+
+    @Test
+    void rotatesWithinTheSameSession() {
+        RefreshToken created = service.createRefreshToken(user());
+        String sessionId = created.getId();
+        String selector = created.getSelector();
+        String first = created.getToken();
+
+        RefreshToken rotated = service.rotateRefreshToken(first);
+
+        assertThat(rotated.getId()).isEqualTo(sessionId);
+        assertThat(rotated.getSelector()).isEqualTo(selector);
+        assertThat(rotated.getToken()).isNotEqualTo(first).startsWith(selector + ".");
+        assertThat(retired).singleElement().satisfies(token -> {
+            assertThat(token.getSessionId()).isEqualTo(sessionId);
+            assertThat(token.getExpiresAt()).isEqualTo(rotated.getExpiresAt());
+        });
+    }
+
+    @Test
+    void revokesTheSessionWhenAnyRetiredTokenIsReplayed() {
+        String first = service.createRefreshToken(user()).getToken();
+        String second = service.rotateRefreshToken(first).getToken();
+        String current = service.rotateRefreshToken(second).getToken();
+
+        // Stolen two rotations ago
+        assertThatThrownBy(() -> service.rotateRefreshToken(first))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Refresh token reuse detected. Please sign in again");
+
+        assertThat(sessions.get(0).getRevoked()).isTrue();
+        verify(revocationStore).revoke(eq(sessions.get(0).getAccessTokenId()), any());
+        assertThatThrownBy(() -> service.rotateRefreshToken(current))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Refresh token has been revoked. Please sign in again");
+    }
+
+    @Test
+    void stillReportsReuseAfterTheReaperDeletedTheRevokedSession() {
+        String first = service.createRefreshToken(user()).getToken();
+        String current = service.rotateRefreshToken(first).getToken();
+        assertThatThrownBy(() -> service.rotateRefreshToken(first)).isInstanceOf(InvalidTokenException.class);
+
+        sessions.clear();
+
+        for (String token : List.of(first, current)) {
+            assertThatThrownBy(() -> service.rotateRefreshToken(token))
+                    .isInstanceOf(InvalidTokenException.class)
+                    .hasMessage("Refresh token reuse detected. Please sign in again");
+        }
+    }
+
+    @Test
+    void rejectsAnUnknownToken() {
+        assertThatThrownBy(() -> service.rotateRefreshToken("unknown.token"))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Refresh token not found");
+    }
+
+    private static User user() {
+        User user = User.builder().email("ann@example.com").build();
+        user.setId("user-1");
+        return user;
+    }
+}
@@ -0,0 +1,84 @@
+// src/test/java/com/dashboard/api/util/HashedTimingWheelTest.java
+package com.dashboard.api.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    // Four 10 ms slots: one revolution is 40 ms
+    private final HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", 10, TimeUnit.MILLISECONDS, 4);
+
+    @AfterEach
+    void closeWheel() {
+        wheel.close();
+    }
+
+    @Test
+    void runsATaskNoEarlierThanItsDelay() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicLong ranAfterNanos = new AtomicLong();
+        long scheduledAt = System.nanoTime();
+
+        wheel.schedule(() -> {
+            ranAfterNanos.set(System.nanoTime() - scheduledAt);
+            ran.countDown();
+        }, 25, TimeUnit.MILLISECONDS);
+
+        assertThat(ran.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(ranAfterNanos.get()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(25));
+    }
+
+    @Test
+    void waitsOutSeveralRevolutionsForLongDelays() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicLong ranAfterNanos = new AtomicLong();
+        long scheduledAt = System.nanoTime();
+
+        wheel.schedule(() -> {
+            ranAfterNanos.set(System.nanoTime() - scheduledAt);
+            ran.countDown();
+        }, 150, TimeUnit.MILLISECONDS);
+
+        assertThat(ran.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(ranAfterNanos.get()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    void skipsCancelledTasks() throws InterruptedException {
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        CountDownLatch later = new CountDownLatch(1);
+
+        wheel.schedule(() -> cancelledRan.set(true), 20, TimeUnit.MILLISECONDS).cancel();
+        wheel.schedule(later::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertThat(later.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelledRan).isFalse();
+    }
+
+    @Test
+    void keepsTurningAfterATaskFails() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+
+        wheel.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 0, TimeUnit.MILLISECONDS);
+        wheel.schedule(ran::countDown, 30, TimeUnit.MILLISECONDS);
+
+        assertThat(ran.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void requiresAPowerOfTwoSlotCount() {
+        assertThatThrownBy(() -> new HashedTimingWheel("bad", 10, TimeUnit.MILLISECONDS, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
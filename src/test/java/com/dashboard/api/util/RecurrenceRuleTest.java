@@ -0,0 +1,143 @@
+// src/test/java/com/dashboard/api/util/RecurrenceRuleTest.java
+package com.dashboard.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    // A Wednesday
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Test
+    void parsesAndFormatsTheCanonicalForm() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:freq=weekly;byday=FR,MO,MO;interval=2;count=6");
+
+        assertThat(rule.format()).isEqualTo("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR;COUNT=6");
+        assertThat(rule.isBounded()).isTrue();
+        assertThat(RecurrenceRule.parse("FREQ=DAILY;UNTIL=20250110Z").format())
+                .isEqualTo("FREQ=DAILY;UNTIL=20250110T235959");
+        assertThat(RecurrenceRule.parse("FREQ=MONTHLY").isBounded()).isFalse();
+    }
+
+    @Test
+    void rejectsMalformedAndUnsupportedRules() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("INTERVAL=2")).hasMessageContaining("FREQ");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=HOURLY")).hasMessageContaining("HOURLY");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=0")).hasMessageContaining("COUNT");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=x")).hasMessageContaining("COUNT");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=2;UNTIL=20250101")).hasMessageContaining("combined");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO")).hasMessageContaining("BYDAY");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=XX")).hasMessageContaining("XX");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;BYHOUR=9")).hasMessageContaining("BYHOUR");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;UNTIL=2025")).hasMessageContaining("UNTIL");
+    }
+
+    @Test
+    void capsCountIntervalAndUntil() {
+        assertThat(RecurrenceRule.parse("FREQ=DAILY;COUNT=10000").isBounded()).isTrue();
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=10001")).hasMessageContaining("COUNT");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=50000000")).hasMessageContaining("COUNT");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;INTERVAL=1001")).hasMessageContaining("INTERVAL");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;UNTIL=99991231")).hasMessageContaining("UNTIL");
+    }
+
+    @Test
+    void expandsDailyWeeklyMonthlyAndYearlyRules() {
+        assertThat(starts("FREQ=DAILY;INTERVAL=2;COUNT=3", START, START)).containsExactly(
+                START, START.plusDays(2), START.plusDays(4));
+
+        // Monday of the first week is before the start and does not count
+        assertThat(starts("FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=4", START, START)).containsExactly(
+                START, LocalDateTime.of(2025, 1, 3, 9, 0), LocalDateTime.of(2025, 1, 6, 9, 0),
+                LocalDateTime.of(2025, 1, 8, 9, 0));
+
+        assertThat(starts("FREQ=YEARLY;COUNT=2", START, START)).containsExactly(START, START.plusYears(1));
+    }
+
+    @Test
+    void skipsMonthsWithoutTheSeriesDay() {
+        LocalDateTime endOfMonth = LocalDateTime.of(2025, 1, 31, 8, 0);
+
+        assertThat(starts("FREQ=MONTHLY;COUNT=3", endOfMonth, endOfMonth)).containsExactly(
+                endOfMonth, LocalDateTime.of(2025, 3, 31, 8, 0), LocalDateTime.of(2025, 5, 31, 8, 0));
+
+        LocalDateTime leapDay = LocalDateTime.of(2024, 2, 29, 8, 0);
+        assertThat(starts("FREQ=YEARLY;COUNT=2", leapDay, leapDay)).containsExactly(
+                leapDay, LocalDateTime.of(2028, 2, 29, 8, 0));
+    }
+
+    @Test
+    void stopsAtUntil() {
+        assertThat(starts("FREQ=DAILY;UNTIL=20250103T090000", START, START)).containsExactly(
+                START, START.plusDays(1), START.plusDays(2));
+        assertThat(starts("FREQ=DAILY;UNTIL=20250103T085959", START, START)).hasSize(2);
+    }
+
+    @Test
+    void jumpsToTheWindowWithoutChangingTheOccurrences() {
+        LocalDateTime window = LocalDateTime.of(2027, 6, 15, 0, 0);
+        for (String rule : List.of("FREQ=DAILY;INTERVAL=3", "FREQ=WEEKLY;BYDAY=TU,SA;INTERVAL=2",
+                "FREQ=WEEKLY;BYDAY=MO,FR;COUNT=200", "FREQ=MONTHLY;INTERVAL=5", "FREQ=DAILY;COUNT=1000")) {
+            // Walking from the start and dropping everything before the window gives the reference
+            List<LocalDateTime> expected = new ArrayList<>();
+            Iterator<LocalDateTime> walked = RecurrenceRule.parse(rule).startsFrom(START, START);
+            while (walked.hasNext() && expected.size() < 5) {
+                LocalDateTime start = walked.next();
+                if (!start.isBefore(window)) {
+                    expected.add(start);
+                }
+            }
+
+            List<LocalDateTime> skipped = new ArrayList<>();
+            Iterator<LocalDateTime> starts = RecurrenceRule.parse(rule).startsFrom(START, window);
+            while (starts.hasNext() && skipped.size() < 5) {
+                skipped.add(starts.next());
+            }
+            assertThat(skipped).as(rule).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void computesTheLastStartWithoutWalkingTheSeries() {
+        LocalDateTime endOfMonth = LocalDateTime.of(2025, 1, 31, 8, 0);
+        LocalDateTime sunday = LocalDateTime.of(2025, 1, 5, 23, 0);
+        for (String rule : List.of("FREQ=DAILY;COUNT=1", "FREQ=DAILY;INTERVAL=3;COUNT=500",
+                "FREQ=WEEKLY;COUNT=40", "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE,FR;COUNT=77",
+                "FREQ=WEEKLY;BYDAY=MO;COUNT=5", "FREQ=MONTHLY;INTERVAL=2;COUNT=30", "FREQ=YEARLY;COUNT=12",
+                "FREQ=DAILY;UNTIL=20300101", "FREQ=WEEKLY;BYDAY=TU,TH;UNTIL=20291231T080000",
+                "FREQ=MONTHLY;UNTIL=20350101", "FREQ=YEARLY;UNTIL=20600301")) {
+            for (LocalDateTime start : List.of(START, endOfMonth, sunday)) {
+                List<LocalDateTime> all = starts(rule, start, start);
+                assertThat(RecurrenceRule.parse(rule).lastStart(start)).as(rule + " from " + start)
+                        .isEqualTo(all.get(all.size() - 1));
+            }
+        }
+        assertThat(RecurrenceRule.parse("FREQ=WEEKLY").lastStart(START)).isNull();
+    }
+
+    @Test
+    void rejectsBoundedSeriesWithoutOccurrencesOrBeyondTheHorizon() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;UNTIL=20241231").lastStart(START))
+                .hasMessageContaining("no occurrences");
+        // About 190,000 years of weeks
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=1000;COUNT=10000").lastStart(START))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=YEARLY;COUNT=102").lastStart(START))
+                .hasMessageContaining("100 years");
+    }
+
+    private static List<LocalDateTime> starts(String rule, LocalDateTime seriesStart, LocalDateTime notBefore) {
+        List<LocalDateTime> starts = new ArrayList<>();
+        RecurrenceRule.parse(rule).startsFrom(seriesStart, notBefore).forEachRemaining(starts::add);
+        return starts;
+    }
+}